@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+
+#
+#  Licensed to the Apache Software Foundation (ASF) under one or more
+#  contributor license agreements.  See the NOTICE file distributed with
+#  this work for additional information regarding copyright ownership.
+#  The ASF licenses this file to You under the Apache License, Version 2.0
+#  (the "License"); you may not use this file except in compliance with
+#  the License.  You may obtain a copy of the License at
+#
+#       http://www.apache.org/licenses/LICENSE-2.0
+#
+#  Unless required by applicable law or agreed to in writing, software
+#  distributed under the License is distributed on an "AS IS" BASIS,
+#  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+#  See the License for the specific language governing permissions and
+#  limitations under the License.
+#
+
+# Run the check reports on a growing number of synthetic artifacts served by a local server, then print wall time,
+# request count and peak heap of each run (also in target/dist-tool/scale.ndjson and in the scale report).
+# The harness is only built with the scale profile: the plugin installed by this script includes it.
+# Network conditions: ./scale-test.sh -Ddist-tool.synthetic.latency=200 -Ddist-tool.synthetic.errorRate=0.01
+SIZES=${SIZES:-"100 1000 2000 5000"}
+
+LOG=$(pwd)/target/scale
+SCALE=$(pwd)/target/dist-tool/scale.ndjson
+
+mvn -B -q -Pscale install -DskipTests -Drat.skip || exit 1
+
+VERSION=$(mvn -B -N help:evaluate -Dexpression=project.version -q -DforceStdout)
+PLUGIN=org.apache.maven.dist.tools:dist-tool-plugin:$VERSION
+
+mkdir -p $LOG
+rm -f $SCALE
+
+for n in $SIZES
+do
+  echo -n "$n artifacts: "
+  start=$(date +%s)
+  mvn -B $PLUGIN:synthetic-server $PLUGIN:check-site $PLUGIN:check-source-release $PLUGIN:check-index-page \
+    $PLUGIN:timings $PLUGIN:scale -Ddist-tool.synthetic=$n -Ddist-tool.incremental=false "$@" > $LOG/run-$n.log 2>&1
+  echo "$(tail $LOG/run-$n.log | grep -o "BUILD [A-Z]*") in $(($(date +%s) - start)) s, log in $LOG/run-$n.log"
+done
+
+echo
+cat $SCALE
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ConfigurationLineInfo} construction over the whole <code>dist-tool.conf</code>, as done by every check
+ * report.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigurationLineInfoBenchmark {
+    private String[] lines;
+
+    @Setup
+    public void setup() {
+        lines = Fixtures.read("/dist-tool.conf").split("\n");
+    }
+
+    @Benchmark
+    public List<ConfigurationLineInfo> parse() throws InvalidVersionSpecificationException {
+        List<ConfigurationLineInfo> infos = new ArrayList<>();
+        ConfigurationLineInfo currentGroup = null;
+        for (String line : lines) {
+            String trim = line.trim();
+            if (trim.isEmpty() || trim.startsWith("##") || trim.startsWith(">")) {
+                continue;
+            }
+            if (trim.startsWith("/")) {
+                currentGroup = new ConfigurationLineInfo(trim.split(" "));
+                if (currentGroup.getArtifactId() != null) {
+                    infos.add(currentGroup);
+                }
+            } else {
+                if (trim.startsWith("*")) {
+                    trim = trim.substring(1).trim();
+                }
+                infos.add(new ConfigurationLineInfo(currentGroup, trim.split(" ")));
+            }
+        }
+        return infos;
+    }
+}
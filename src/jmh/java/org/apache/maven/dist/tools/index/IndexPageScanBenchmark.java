@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.index;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.dist.tools.Fixtures;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of the plugins index page rows, done once per page, and row lookup, done once for every plugin.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IndexPageScanBenchmark {
+    /** First and last plugins of the page. */
+    @Param({"maven-acr-plugin", "maven-war-plugin"})
+    public String artifactId;
+
+    private Document doc;
+
+    private IndexPageRows rows;
+
+    @Setup
+    public void setup() {
+        doc = Jsoup.parse(Fixtures.read("plugins-index.html"), "https://maven.apache.org/plugins/");
+        rows = IndexPageRows.parse(doc, new IndexPage("https://maven.apache.org/plugins/", "Plugins", 3, true));
+    }
+
+    @Benchmark
+    public IndexPageRows parseRows() {
+        return IndexPageRows.parse(doc, new IndexPage("https://maven.apache.org/plugins/", "Plugins", 3, true));
+    }
+
+    @Benchmark
+    public String findLink() {
+        IndexPageRows.Row row = rows.findLink('/' + artifactId + '/');
+        return row == null ? null : row.version();
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs.branches;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.maven.dist.tools.Fixtures;
+import org.apache.maven.dist.tools.jobs.JenkinsJobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reconciliation of Git branches with Jenkins jobs by <code>list-branches</code>, for a repository with many Jira
+ * and dependabot branches.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BranchReconciliationBenchmark {
+    private List<JenkinsJobs.Job> jobs;
+
+    private List<String> branches;
+
+    @Setup
+    public void setup() throws IOException {
+        jobs = new ArrayList<>();
+        for (JsonNode job : new ObjectMapper().readTree(Fixtures.read("jenkins-jobs.json")).get("jobs")) {
+            jobs.add(new JenkinsJobs.Job(job.get("name").asText(), null, null, null));
+        }
+        branches = Arrays.asList(Fixtures.read("git-branches.txt").split("\n"));
+    }
+
+    @Benchmark
+    public Result reconcile() {
+        return ListBranchesReport.reconcile("maven-surefire", "https://ci-maven.apache.org/", jobs, branches);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.site;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.dist.tools.Fixtures;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of a Fluido site page by every checker: single streaming pass stopping once everything is decided,
+ * compared with a full document parse then one selection per checker.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SitePageBenchmark {
+    private static final Map<String, String> SELECTORS =
+            Map.of("Fluido", "li#projectVersion", "Stylus left side", "div.xleft", "Stylus right side", "div.xright");
+
+    private final List<HTMLChecker> checkers = HTMLCheckerFactory.getCheckers();
+
+    private String html;
+
+    @Setup
+    public void setup() {
+        html = Fixtures.read("/org/apache/maven/dist/tools/site/fluido.html");
+    }
+
+    @Benchmark
+    public SitePage scan() throws IOException {
+        return SitePage.scan(new StringReader(html), "https://maven.apache.org/", checkers, "3.2.1", (c, ok) -> {});
+    }
+
+    @Benchmark
+    public Map<String, Boolean> parseAndSelect() {
+        Document doc = Jsoup.parse(html);
+        Map<String, Boolean> checks = new HashMap<>();
+        SELECTORS.forEach((checker, selector) -> checks.put(checker, doc.select(selector).text().contains("3.2.1")));
+        checks.put("comment", SitePage.extractComment(doc).contains("Fluido"));
+        return checks;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.source;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.dist.tools.ConfigurationLineInfo;
+import org.apache.maven.dist.tools.DirectoryListing;
+import org.apache.maven.dist.tools.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Source release pattern matching of <code>checkContainsOld</code> against the listing of the plugins directory of
+ * the distribution area, with and without version range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SourceReleasePatternBenchmark {
+    @Param({"maven-compiler-plugin [3,3.99]", "maven-javadoc-plugin"})
+    public String line;
+
+    private byte[] listing;
+
+    private Set<String> hrefs;
+
+    private ConfigurationLineInfo cli;
+
+    @Setup
+    public void setup() throws IOException, InvalidVersionSpecificationException {
+        listing = Fixtures.read("dist-plugins-listing.html").getBytes(StandardCharsets.UTF_8);
+        hrefs = DirectoryListing.read(new ByteArrayInputStream(listing)).getHrefs();
+        ConfigurationLineInfo group = new ConfigurationLineInfo(
+                new String[] {"/plugins:", "org.apache.maven.plugins", "https://maven.apache.org/plugins/"});
+        cli = new ConfigurationLineInfo(group, line.split(" "));
+    }
+
+    @Benchmark
+    public List<String> findOldSourceReleases() {
+        return DistCheckSourceReleaseReport.findOldSourceReleases(hrefs, cli, "3.1.0");
+    }
+
+    @Benchmark
+    public List<String> readListingAndFind() throws IOException {
+        Set<String> read = DirectoryListing.read(new ByteArrayInputStream(listing)).getHrefs();
+        return DistCheckSourceReleaseReport.findOldSourceReleases(read, cli, "3.1.0");
+    }
+}
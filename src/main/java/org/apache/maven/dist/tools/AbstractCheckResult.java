@@ -27,6 +27,7 @@ public class AbstractCheckResult {
 
     private final ConfigurationLineInfo configLine;
     private final String version;
+    private String unavailableHost;
 
     /**
      * <p>Constructor for AbstractCheckResult.</p>
@@ -56,4 +57,22 @@ public class AbstractCheckResult {
     public String getVersion() {
         return version;
     }
+
+    /**
+     * <p>Getter for the field <code>unavailableHost</code>.</p>
+     *
+     * @return the host that could not be reached to complete the check, or <code>null</code>
+     */
+    public String getUnavailableHost() {
+        return unavailableHost;
+    }
+
+    /**
+     * <p>Setter for the field <code>unavailableHost</code>.</p>
+     *
+     * @param unavailableHost the host that could not be reached to complete the check
+     */
+    public void setUnavailableHost(String unavailableHost) {
+        this.unavailableHost = unavailableHost;
+    }
 }
@@ -18,47 +18,57 @@
  */
 package org.apache.maven.dist.tools;
 
-import java.io.BufferedInputStream;
-import java.io.BufferedReader;
+import javax.inject.Inject;
+
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
-import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-
-import org.apache.maven.artifact.repository.ArtifactRepository;
-import org.apache.maven.artifact.repository.ArtifactRepositoryPolicy;
-import org.apache.maven.artifact.repository.MavenArtifactRepository;
-import org.apache.maven.artifact.repository.layout.DefaultRepositoryLayout;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.maven.artifact.repository.metadata.Metadata;
-import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
 import org.apache.maven.artifact.versioning.ArtifactVersion;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.apache.maven.artifact.versioning.InvalidVersionSpecificationException;
+import org.apache.maven.dist.tools.http.FetchTimings;
+import org.apache.maven.dist.tools.http.HostUnavailableException;
+import org.apache.maven.dist.tools.jfr.CheckArtifactEvent;
+import org.apache.maven.dist.tools.jfr.ReportEvent;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.apache.maven.reporting.AbstractMavenReport;
 import org.apache.maven.reporting.MavenReportException;
-import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
  * Abstract AbstractDistCheckReport class.
  *
+ * @param <R> the type of check result produced for each artifact
  * @author skygo
  */
-public abstract class AbstractDistCheckReport extends AbstractMavenReport {
+public abstract class AbstractDistCheckReport<R extends AbstractCheckResult> extends AbstractDistToolReport {
     private static final String CONF = "dist-tool.conf";
 
     private static final String EOL = System.getProperty("line.separator");
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    /** Version of an artifact whose metadata cannot be read. */
+    protected static final String UNKNOWN_VERSION = "?";
+
     /**
      * Abstract Dist Check Report.
      */
@@ -76,6 +86,12 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
     @Parameter(property = "configurationLines", defaultValue = "")
     private List<String> configurationLines;
 
+    /**
+     * Maximum number of artifacts checked concurrently.
+     */
+    @Parameter(defaultValue = "8", property = "dist-tool.checks.concurrency")
+    protected int concurrency;
+
     /**
      * Failures directory.
      */
@@ -83,9 +99,28 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
     protected File failuresDirectory;
 
     /**
-     * list of artifacts repositories.
+     * Reuse outcomes of previous runs for artifacts whose metadata and inputs did not change, in reports supporting it.
      */
-    protected List<ArtifactRepository> artifactRepositories = new LinkedList<>();
+    @Parameter(defaultValue = "true", property = "dist-tool.incremental")
+    protected boolean incremental;
+
+    /**
+     * Directory where outcomes are kept between runs, outside of <code>target</code> to be kept across clean builds.
+     */
+    @Parameter(defaultValue = "${user.home}/.cache/maven-dist-tool/state", property = "dist-tool.state")
+    protected File stateDirectory;
+
+    /**
+     * Maximum age of a reused outcome, in hours: older outcomes are checked again even if nothing changed.
+     */
+    @Parameter(defaultValue = "168", property = "dist-tool.fullCheckInterval")
+    protected int fullCheckInterval;
+
+    /**
+     * Check every artifact, ignoring outcomes of previous runs.
+     */
+    @Parameter(defaultValue = "false", property = "dist-tool.force")
+    protected boolean forceFullCheck;
 
     /**
      * Location of distribution area
@@ -107,6 +142,29 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
      */
     protected Map<String, String> sites = new HashMap<String, String>();
 
+    /**
+     * Data shared with other reports of the Maven session.
+     */
+    @Inject
+    protected SessionCache sessionCache;
+
+    /**
+     * Check results, in configuration order: filled by {@link #prepareReportData()}.
+     */
+    protected final List<R> results = new ArrayList<>();
+
+    /**
+     * Outcomes of previous runs, <code>null</code> if not incremental.
+     */
+    private CheckState state;
+
+    private final AtomicInteger reusedCount = new AtomicInteger();
+
+    /**
+     * Failures written for each artifact, ignored or not, to be replayed when the outcome is reused.
+     */
+    private final Map<ConfigurationLineInfo, Queue<ResultEvent>> failures = new ConcurrentHashMap<>();
+
     /**
      * is it index page check mojo?
      * necessary to only check index page information for plugins marked with asterisk * in db,
@@ -118,12 +176,14 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
 
     /**
      * <p>checkArtifact.</p>
+     * Called concurrently for many artifacts: implementations must not share mutable state without synchronization.
      *
      * @param request a {@link org.apache.maven.dist.tools.ConfigurationLineInfo} object
      * @param repoBase a {@link java.lang.String} object
+     * @return the check result, or <code>null</code> if the artifact is not part of the report
      * @throws MavenReportException if any.
      */
-    protected abstract void checkArtifact(ConfigurationLineInfo request, String repoBase) throws MavenReportException;
+    protected abstract R checkArtifact(ConfigurationLineInfo request, String repoBase) throws MavenReportException;
 
     /**
      * <p>getFailuresFilename.</p>
@@ -132,6 +192,80 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
      */
     protected abstract String getFailuresFilename();
 
+    /**
+     * Fetch data shared by the checks of many artifacts, before checking them.
+     *
+     * @param lines the artifacts to check
+     * @throws MavenReportException if shared data cannot be fetched
+     */
+    protected void prefetch(List<ConfigurationLineInfo> lines) throws MavenReportException {}
+
+    /**
+     * Can the report reuse outcomes of previous runs? Reports returning <code>true</code> implement
+     * {@link #saveOutcome(AbstractCheckResult)} and {@link #restoreOutcome(ConfigurationLineInfo, String, JsonNode)}.
+     *
+     * @return <code>false</code> by default
+     */
+    protected boolean isIncremental() {
+        return false;
+    }
+
+    /**
+     * Summary of the inputs of an artifact check other than its metadata, like directory listings: the outcome of a
+     * previous run is reused only if the fingerprint did not change.
+     *
+     * @param line the artifact
+     * @param version the version to check
+     * @return the fingerprint, empty by default
+     * @throws IOException if inputs cannot be read
+     */
+    protected String getFingerprint(ConfigurationLineInfo line, String version) throws IOException {
+        return "";
+    }
+
+    /**
+     * Ignore list of a check, to evaluate failures replayed from a previous run against current configuration.
+     *
+     * @param check the kind of check that failed
+     * @return the ignore list, <code>null</code> by default
+     */
+    protected List<String> getIgnore(String check) {
+        return null;
+    }
+
+    /**
+     * Convert a check result to be saved for next runs.
+     *
+     * @param result the check result
+     * @return the outcome to save, or <code>null</code> if the artifact must be checked again on next run
+     */
+    protected JsonNode saveOutcome(R result) {
+        return null;
+    }
+
+    /**
+     * Convert a saved outcome back to a check result.
+     *
+     * @param line the artifact
+     * @param version the checked version
+     * @param outcome the outcome saved by {@link #saveOutcome(AbstractCheckResult)}
+     * @return the check result, or <code>null</code> if the outcome cannot be used
+     */
+    protected R restoreOutcome(ConfigurationLineInfo line, String version, JsonNode outcome) {
+        return null;
+    }
+
+    /**
+     * Create the result of an artifact that cannot be checked, to render its row without check outcome.
+     *
+     * @param line the artifact
+     * @param version the version, {@link #UNKNOWN_VERSION} if it cannot be read from metadata
+     * @return the empty result, or <code>null</code> by default: the report has no row for the artifact
+     */
+    protected R newResult(ConfigurationLineInfo line, String version) {
+        return null;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getOutputName() {
@@ -139,41 +273,136 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
     }
 
     private void loadConfiguration() throws MavenReportException {
-        URL configuration = Thread.currentThread().getContextClassLoader().getResource(CONF);
-        try (BufferedReader in = new BufferedReader(new InputStreamReader(configuration.openStream()))) {
-            String text;
-            while ((text = in.readLine()) != null) {
-                configurationLines.add(text);
-            }
+        try {
+            configurationLines.addAll(sessionCache.getConfiguration());
         } catch (IOException e) {
-            throw new MavenReportException("error while reading " + configuration, e);
+            throw new MavenReportException("error while reading " + CONF, e);
         }
     }
 
-    private ArtifactRepositoryPolicy newArtifactRepositoryPolicy(boolean enabled) {
-        return new ArtifactRepositoryPolicy(
-                enabled, ArtifactRepositoryPolicy.UPDATE_POLICY_ALWAYS, ArtifactRepositoryPolicy.CHECKSUM_POLICY_WARN);
-    }
-
     protected void prepareReportData() throws MavenReportException {
-        ArtifactRepository aa = new MavenArtifactRepository(
-                "central",
-                repoBaseUrl,
-                new DefaultRepositoryLayout(),
-                newArtifactRepositoryPolicy(false),
-                newArtifactRepositoryPolicy(true));
-        artifactRepositories.add(aa);
-
         if (configurationLines.isEmpty()) {
             loadConfiguration();
         }
 
-        File failures = getFailuresFile();
-        if (failures.exists()) {
-            failures.delete();
+        resetFailures();
+
+        loadState();
+
+        ReportEvent event = ReportEvent.start(getOutputName(), "check");
+        try {
+            List<ConfigurationLineInfo> lines = parseConfiguration();
+            prefetch(lines);
+            results.addAll(checkArtifacts(lines));
+            event.finish(null);
+        } catch (MavenReportException | RuntimeException e) {
+            event.finish(e);
+            throw e;
+        } finally {
+            flushFailures();
+        }
+
+        saveState();
+
+        getLog().info("");
+    }
+
+    private File getStateFile() {
+        return new File(stateDirectory, getFailuresFilename().replace(".log", ".json"));
+    }
+
+    private void loadState() {
+        if (!incremental || !isIncremental()) {
+            return;
+        }
+        try {
+            state = CheckState.load(getStateFile().toPath());
+        } catch (IOException e) {
+            // start again from scratch
+            getLog().warn("Ignoring unreadable state file " + getStateFile() + ": " + e.getMessage());
+            state = CheckState.empty(getStateFile().toPath());
+        }
+    }
+
+    private void saveState() {
+        if (state == null) {
+            return;
+        }
+        getLog().info(reusedCount.get() + " artifacts not checked: reused outcome of previous run, from "
+                + getStateFile());
+        try {
+            state.save();
+        } catch (IOException e) {
+            getLog().warn("Cannot write state file " + getStateFile() + ": " + e.getMessage());
+        }
+    }
+
+    private static String getStateKey(ConfigurationLineInfo line) {
+        return line.getGroupId() + ':' + line.getArtifactId()
+                + (line.getVersionRange() == null ? "" : ':' + line.getVersionRange().toString());
+    }
+
+    private String getFingerprintOrNull(ConfigurationLineInfo line, String version) {
+        try {
+            return getFingerprint(line, version);
+        } catch (IOException e) {
+            getLog().debug("No fingerprint for " + line.getArtifactId() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    private R reuseOutcome(ConfigurationLineInfo line, String version, String fingerprint) {
+        CheckState.Entry entry = state.get(getStateKey(line));
+        if (forceFullCheck
+                || entry == null
+                || fingerprint == null
+                || !version.equals(entry.version())
+                || !Objects.equals(line.getLastUpdatedFromMetadata(), entry.lastUpdated())
+                || !fingerprint.equals(entry.fingerprint())
+                || System.currentTimeMillis() - entry.checkedAt() > TimeUnit.HOURS.toMillis(fullCheckInterval)) {
+            return null;
+        }
+        R result = restoreOutcome(line, version, entry.outcome());
+        if (result != null) {
+            getLog().debug(line.getArtifactId() + ':' + version + " unchanged, reusing outcome of previous run");
+            for (ResultEvent failure : entry.failures()) {
+                addFailure(
+                        line,
+                        version,
+                        getIgnore(failure.check()),
+                        failure.check(),
+                        failure.url(),
+                        failure.message(),
+                        failure.details());
+            }
+            reusedCount.incrementAndGet();
+        }
+        return result;
+    }
+
+    private void recordOutcome(ConfigurationLineInfo line, String version, String fingerprint, R result) {
+        String key = getStateKey(line);
+        // incomplete checks are not recorded
+        JsonNode outcome = (result == null || result.getUnavailableHost() != null || fingerprint == null)
+                ? null
+                : saveOutcome(result);
+        if (outcome == null) {
+            state.remove(key);
         } else {
-            failuresDirectory.mkdirs();
+            state.put(
+                    key,
+                    new CheckState.Entry(
+                            version,
+                            line.getLastUpdatedFromMetadata(),
+                            fingerprint,
+                            System.currentTimeMillis(),
+                            List.copyOf(failures.getOrDefault(line, new ConcurrentLinkedQueue<>())),
+                            outcome));
         }
+    }
+
+    private List<ConfigurationLineInfo> parseConfiguration() throws MavenReportException {
+        List<ConfigurationLineInfo> lines = new ArrayList<>();
 
         ConfigurationLineInfo currentGroup = null;
         for (String line : configurationLines) {
@@ -251,17 +480,140 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
                 }
             }
 
-            checkArtifact(aLine, getVersion(aLine));
+            lines.add(aLine);
         }
 
-        getLog().info("");
+        return lines;
+    }
+
+    /**
+     * Resolve version then check every artifact, with up to {@link #concurrency} artifacts in flight.
+     *
+     * @param lines the artifacts to check
+     * @return non-null check results, in the same order as <code>lines</code>
+     * @throws MavenReportException the first failure, in configuration order
+     */
+    private List<R> checkArtifacts(List<ConfigurationLineInfo> lines) throws MavenReportException {
+        List<Future<R>> futures = new ArrayList<>(lines.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, concurrency), Thread.ofVirtual().name("dist-tool-check-", 0).factory())) {
+            for (ConfigurationLineInfo line : lines) {
+                futures.add(executor.submit(() -> checkArtifact(line)));
+            }
+        } // close() waits for every check to complete
+
+        List<R> checked = new ArrayList<>(lines.size());
+        for (Future<R> future : futures) {
+            try {
+                R result = future.get();
+                if (result != null) {
+                    checked.add(result);
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof MavenReportException mre) {
+                    throw mre;
+                }
+                throw new MavenReportException(cause.getMessage(), e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MavenReportException("interrupted while checking artifacts", e);
+            }
+        }
+        return checked;
+    }
+
+    private R checkArtifact(ConfigurationLineInfo line) throws MavenReportException {
+        String artifact = line.getGroupId() + ':' + line.getArtifactId();
+        FetchTimings.setArtifact(artifact);
+        CheckArtifactEvent event = new CheckArtifactEvent();
+        event.begin();
+        long start = System.nanoTime();
+        String outcome = null;
+        try {
+            R result = checkArtifactWithState(line);
+            outcome = result == null ? "skipped" : "checked";
+            return result;
+        } catch (MavenReportException | RuntimeException e) {
+            outcome = String.valueOf(e.getMessage());
+            throw e;
+        } finally {
+            transport.getTimings().recordCheck(artifact, System.nanoTime() - start);
+            FetchTimings.setArtifact(null);
+            event.end();
+            if (event.shouldCommit()) {
+                event.mojo = getOutputName();
+                event.artifact = artifact;
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private R checkArtifactWithState(ConfigurationLineInfo line) throws MavenReportException {
+        String version;
+        try {
+            version = getVersion(line);
+        } catch (MavenReportException e) {
+            if (e.getCause() instanceof HostUnavailableException hue) {
+                // repository is down: continue with other artifacts, they may succeed once it is back
+                addFailure(
+                        line,
+                        null,
+                        null,
+                        "metadata",
+                        line.getMetadataFileURL(repoBaseUrl),
+                        line.getArtifactId() + " not checked: " + hue.getMessage(),
+                        List.of());
+                R result = newResult(line, UNKNOWN_VERSION);
+                if (result != null) {
+                    result.setUnavailableHost(hue.getHost());
+                }
+                return result;
+            }
+            throw e;
+        }
+
+        if (state == null) {
+            return completed(line, version, checkArtifact(line, version), "checked");
+        }
+        String fingerprint = getFingerprintOrNull(line, version);
+        R result = reuseOutcome(line, version, fingerprint);
+        if (result != null) {
+            return completed(line, version, result, "unchanged, outcome of previous run");
+        }
+        result = checkArtifact(line, version);
+        recordOutcome(line, version, fingerprint, result);
+        return completed(line, version, result, "checked");
+    }
+
+    /**
+     * Write an {@link ResultEvent#OK} event for an artifact checked without failure, so that the results stream tells
+     * passed artifacts from artifacts not checked.
+     */
+    private R completed(ConfigurationLineInfo line, String version, R result, String message) {
+        Queue<ResultEvent> events = failures.get(line);
+        boolean failed = events != null && events.stream().anyMatch(event -> !event.ignored());
+        if (result != null && result.getUnavailableHost() == null && !failed) {
+            writeResult(new ResultEvent(
+                    getReportName(),
+                    line.getGroupId(),
+                    line.getArtifactId(),
+                    version,
+                    ResultEvent.ARTIFACT_CHECK,
+                    ResultEvent.OK,
+                    null,
+                    message,
+                    List.of(),
+                    false));
+        }
+        return result;
     }
 
     private String getVersion(ConfigurationLineInfo aLine) throws MavenReportException {
         String metadataUrl = aLine.getMetadataFileURL(repoBaseUrl);
-        try (InputStream input = new BufferedInputStream(new URL(metadataUrl).openStream())) {
-            MetadataXpp3Reader metadataReader = new MetadataXpp3Reader();
-            Metadata metadata = metadataReader.read(input);
+        try {
+            Metadata metadata = sessionCache.getMetadata(metadataUrl);
 
             aLine.setMetadata(metadata);
 
@@ -287,8 +639,9 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
                 getLog().debug("  available versions in repository " + repoBaseUrl);
                 // revert sort versions (not handling alpha and
                 // complex version schemes but more useful versions are displayed left side)
-                Collections.sort(metadata.getVersioning().getVersions(), Collections.reverseOrder());
-                getLog().debug("    " + metadata.getVersioning().getVersions());
+                List<String> versions = new ArrayList<>(metadata.getVersioning().getVersions());
+                versions.sort(Collections.reverseOrder());
+                getLog().debug("    " + versions);
             }
 
             if (aLine.getForcedVersion() != null) {
@@ -307,7 +660,7 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
             }
 
             return version;
-        } catch (IOException | XmlPullParserException ex) {
+        } catch (IOException ex) {
             throw new MavenReportException("error while reading " + metadataUrl, ex);
         }
     }
@@ -362,23 +715,119 @@ public abstract class AbstractDistCheckReport extends AbstractMavenReport {
      * @return true if real error, or false if ignored
      */
     protected boolean addErrorLine(ConfigurationLineInfo cli, String version, List<String> ignore, String message) {
-        if ((ignore != null)
-                && (ignore.contains(cli.getArtifactId() + ':' + version) || ignore.contains(cli.getArtifactId()))) {
+        return addFailure(cli, version, ignore, "failure", null, message, List.of());
+    }
+
+    /**
+     * Log and add failure to logs.txt if not configured to ignore the artifact+version, with one line per detail.
+     * The failure is also written as a {@link ResultEvent} to the results stream, even when ignored.
+     *
+     * @param cli the artifact, or <code>null</code> if the failure is not about an artifact
+     * @param version The version.
+     * @param ignore the list of ignores.
+     * @param check the kind of check that failed
+     * @param url the checked url, or <code>null</code>
+     * @param message The message.
+     * @param details the details, like missing files
+     * @return true if real error, or false if ignored
+     */
+    protected boolean addFailure(
+            ConfigurationLineInfo cli,
+            String version,
+            List<String> ignore,
+            String check,
+            String url,
+            String message,
+            List<String> details) {
+        boolean ignored = (ignore != null)
+                && (cli != null)
+                && (ignore.contains(cli.getArtifactId() + ':' + version) || ignore.contains(cli.getArtifactId()));
+        ResultEvent event = new ResultEvent(
+                getReportName(),
+                cli == null ? null : cli.getGroupId(),
+                cli == null ? null : cli.getArtifactId(),
+                version,
+                check,
+                ignored ? ResultEvent.WARNING : ResultEvent.ERROR,
+                url,
+                message,
+                details,
+                ignored);
+
+        writeResult(event);
+        if (cli != null) {
+            // saved even when ignored: ignore list may change before the outcome is reused
+            failures.computeIfAbsent(cli, k -> new ConcurrentLinkedQueue<>()).add(event);
+        }
+
+        if (ignored) {
             getLog().warn(message);
+            for (String detail : details) {
+                getLog().warn(" > " + detail + " <");
+            }
             return false;
         }
 
         getLog().error(message);
-
-        try (PrintWriter output = new PrintWriter(new FileWriter(getFailuresFile(), true))) {
-            output.printf("%s%s", message, EOL);
-        } catch (Exception e) {
-            getLog().error("Cannot append to " + getFailuresFilename());
+        for (String detail : details) {
+            getLog().error(" > " + detail + " <");
+        }
+        // one entry with every line, not interleaved with lines of other artifacts
+        StringBuilder entry = new StringBuilder(message).append(EOL);
+        for (String detail : details) {
+            entry.append(" > ").append(detail).append(" <").append(EOL);
         }
+        FailureLog.get(getFailuresFile()).append(entry.toString());
         return true;
     }
 
+    private void writeResult(ResultEvent event) {
+        try {
+            FailureLog.get(getResultsFile()).append(MAPPER.writeValueAsString(event) + EOL);
+        } catch (JsonProcessingException e) {
+            getLog().error("Cannot write result event: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Remove failures of previous run.
+     */
+    protected void resetFailures() {
+        failuresDirectory.mkdirs();
+        try {
+            FailureLog.reset(getFailuresFile());
+            FailureLog.reset(getResultsFile());
+        } catch (IOException e) {
+            getLog().error("Cannot remove previous failures: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Wait until failures are written, for reports reading them.
+     */
+    protected void flushFailures() {
+        try {
+            FailureLog.flush(getFailuresFile());
+            FailureLog.flush(getResultsFile());
+        } catch (IOException e) {
+            getLog().error("Cannot write failures to " + failuresDirectory + ": " + e.getMessage());
+        }
+    }
+
+    private String getReportName() {
+        return getFailuresFilename().replace(".log", "");
+    }
+
     private File getFailuresFile() {
         return new File(failuresDirectory, getFailuresFilename());
     }
+
+    /**
+     * <p>getResultsFile.</p>
+     *
+     * @return the file where {@link ResultEvent}s are written, one JSON object per line
+     */
+    protected File getResultsFile() {
+        return new File(failuresDirectory, getReportName() + ".ndjson");
+    }
 }
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.apache.maven.dist.tools.jfr.ReportEvent;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.reporting.AbstractMavenReport;
+import org.apache.maven.reporting.MavenReportException;
+
+/**
+ * Base of the reports fetching through the shared {@link HttpTransport}: HTTP cache, recording and replay parameters.
+ * The report is generated in two phases, {@link #check()} then {@link #renderReport(Locale)}, each recorded as a
+ * {@link ReportEvent}.
+ */
+public abstract class AbstractDistToolReport extends AbstractMavenReport {
+    /**
+     * HTTP responses cache directory, outside of <code>target</code> to be kept across clean builds.
+     */
+    @Parameter(defaultValue = "${user.home}/.cache/maven-dist-tool/http-cache", property = "dist-tool.http.cache")
+    protected File httpCacheDirectory;
+
+    /**
+     * Maximum HTTP responses cache size, in MB: least recently used responses are evicted above.
+     */
+    @Parameter(defaultValue = "256", property = "dist-tool.http.cache.maxSize")
+    protected int httpCacheMaxSize;
+
+    /**
+     * Refetch HTTP responses cached by previous runs instead of revalidating them.
+     */
+    @Parameter(defaultValue = "false", property = "dist-tool.http.cache.refresh")
+    protected boolean httpCacheRefresh;
+
+    /**
+     * Record every HTTP exchange in this directory, to replay the run offline with <code>dist-tool.replay</code>.
+     */
+    @Parameter(property = "dist-tool.record")
+    protected File httpRecordDirectory;
+
+    /**
+     * Replay HTTP exchanges recorded in this directory from an embedded server, instead of using the network.
+     */
+    @Parameter(property = "dist-tool.replay")
+    protected File httpReplayDirectory;
+
+    /**
+     * Port of the embedded replay server: <code>0</code> for any free port.
+     */
+    @Parameter(defaultValue = "0", property = "dist-tool.replay.port")
+    protected int httpReplayPort;
+
+    /**
+     * Shared HTTP transport.
+     */
+    @Inject
+    protected HttpTransport transport;
+
+    /**
+     * Attribute fetches to this report, then cache, record or replay HTTP exchanges, as configured.
+     *
+     * @throws MavenReportException if exchanges cannot be cached, recorded or replayed
+     */
+    private void configureTransport() throws MavenReportException {
+        transport.getTimings().enterMojo(getOutputName());
+
+        try {
+            transport.configureCache(httpCacheDirectory, httpCacheMaxSize * 1024L * 1024L, httpCacheRefresh);
+        } catch (IOException e) {
+            throw new MavenReportException("cannot use HTTP cache " + httpCacheDirectory, e);
+        }
+
+        try {
+            transport.configureRecording(httpRecordDirectory);
+            transport.configureReplay(httpReplayDirectory, httpReplayPort);
+        } catch (IOException e) {
+            throw new MavenReportException("cannot record or replay HTTP exchanges", e);
+        }
+    }
+
+    /**
+     * Configure the transport, check, then render the report.
+     *
+     * @param locale the locale
+     * @throws MavenReportException if the report cannot be generated
+     */
+    @Override
+    protected final void executeReport(Locale locale) throws MavenReportException {
+        configureTransport();
+
+        check();
+
+        ReportEvent render = ReportEvent.start(getOutputName(), "render");
+        Throwable failure = null;
+        try {
+            renderReport(locale);
+        } catch (MavenReportException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            render.finish(failure);
+        }
+    }
+
+    /**
+     * Check phase, before the report is rendered: nothing by default.
+     *
+     * @throws MavenReportException if the check cannot be done
+     */
+    protected void check() throws MavenReportException {}
+
+    /**
+     * Render the report to the sink.
+     *
+     * @param locale the locale
+     * @throws MavenReportException if the report cannot be rendered
+     */
+    protected abstract void renderReport(Locale locale) throws MavenReportException;
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Check results of a report, persisted between runs: an artifact whose metadata and inputs did not change since last
+ * check reuses its previous outcome instead of being checked again.
+ */
+public final class CheckState {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Outcome of an artifact check.
+     *
+     * @param version the checked version
+     * @param lastUpdated <code>lastUpdated</code> of the artifact <code>maven-metadata.xml</code>
+     * @param fingerprint report specific summary of other inputs of the check, like directory listings
+     * @param checkedAt when the check was run, in milliseconds since epoch
+     * @param failures failures written by the check
+     * @param outcome report specific check result
+     */
+    public record Entry(
+            String version,
+            String lastUpdated,
+            String fingerprint,
+            long checkedAt,
+            List<ResultEvent> failures,
+            JsonNode outcome) {}
+
+    private final Path file;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private CheckState(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Create an empty state.
+     *
+     * @param file the state file
+     * @return the state
+     */
+    public static CheckState empty(Path file) {
+        return new CheckState(file);
+    }
+
+    /**
+     * Load state from a previous run.
+     *
+     * @param file the state file
+     * @return the state, empty if the file does not exist
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static CheckState load(Path file) throws IOException {
+        CheckState state = empty(file);
+        if (Files.exists(file)) {
+            state.entries.putAll(MAPPER.readValue(file.toFile(), new TypeReference<Map<String, Entry>>() {}));
+        }
+        return state;
+    }
+
+    /**
+     * <p>get.</p>
+     *
+     * @param key the artifact key
+     * @return the previous outcome, or <code>null</code>
+     */
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * <p>put.</p>
+     *
+     * @param key the artifact key
+     * @param entry the new outcome
+     */
+    public void put(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    /**
+     * Forget an artifact, which will be checked on next run.
+     *
+     * @param key the artifact key
+     */
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Write the state file, atomically replacing previous one.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void save() throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        MAPPER.writeValue(tmp.toFile(), new TreeMap<>(entries));
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
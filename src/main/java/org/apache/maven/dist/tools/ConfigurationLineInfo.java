@@ -191,16 +191,29 @@ public class ConfigurationLineInfo {
         return getBaseURL(repoBaseUrl, version + URLSEP + artifactId + "-" + version + ".pom");
     }
 
-    void setMetadata(Metadata aMetadata) {
+    /**
+     * <p>Setter for the field <code>metadata</code>.</p>
+     *
+     * @param aMetadata the repository metadata of the artifact
+     */
+    public void setMetadata(Metadata aMetadata) {
         this.metadata = aMetadata;
     }
 
+    String getLastUpdatedFromMetadata() {
+        return metadata == null ? null : metadata.getVersioning().getLastUpdated();
+    }
+
     /**
      * <p>getReleaseDateFromMetadata.</p>
      *
      * @return a {@link java.lang.String} object
      */
     public String getReleaseDateFromMetadata() {
+        if (metadata == null) {
+            // metadata could not be read
+            return "";
+        }
         DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyyMMddkkmmss");
         TemporalAccessor ta = dateFormatter.parse(metadata.getVersioning().getLastUpdated());
 
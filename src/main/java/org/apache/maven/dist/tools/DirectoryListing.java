@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Entries of a directory index page, as served by Apache httpd, Subversion or a Maven repository: links with their
+ * size and last modification date, when the page displays them.
+ * <p>
+ * The page is read line by line from the response stream, without building a DOM: index pages of artifacts with
+ * hundreds of versions are large, but only the links matter.
+ */
+public final class DirectoryListing {
+    private static final Pattern ANCHOR = Pattern.compile(
+            "<a\\s[^>]*?href\\s*=\\s*(?:\"([^\"]*)\"|'([^']*)'|([^\\s>]+))[^>]*>", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern ANCHOR_END = Pattern.compile("</a\\s*>", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern TAG = Pattern.compile("<[^>]*>");
+
+    /** Date then size columns, as displayed by httpd (<code>1.2M</code>, <code>-</code>) or Maven repositories. */
+    private static final Pattern DATE_SIZE = Pattern.compile(
+            "(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}(?::\\d{2})?|\\d{2}-[A-Za-z]{3}-\\d{4} \\d{2}:\\d{2})"
+                    + "(?:\\s+(\\d+(?:\\.\\d+)?)([KMGT]?)\\b|\\s+-)?");
+
+    private static final DateTimeFormatter ISO_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm[:ss]");
+
+    private static final DateTimeFormatter HTTPD_DATE = DateTimeFormatter.ofPattern("dd-MMM-yyyy HH:mm", Locale.ENGLISH);
+
+    /**
+     * A link of the index.
+     *
+     * @param href the link target, as written in the page: relative for files and sub-directories
+     * @param size the size in bytes, approximate when displayed with a unit, or <code>-1</code> if not displayed
+     * @param date the last modification date, or <code>null</code> if not displayed
+     */
+    public record Entry(String href, long size, LocalDateTime date) {
+        /**
+         * <p>isDirectory.</p>
+         *
+         * @return <code>true</code> if the link targets a directory
+         */
+        public boolean isDirectory() {
+            return href.endsWith("/");
+        }
+    }
+
+    private final List<Entry> entries;
+
+    private final Set<String> hrefs;
+
+    private DirectoryListing(List<Entry> entries) {
+        this.entries = Collections.unmodifiableList(entries);
+        Set<String> set = new LinkedHashSet<>();
+        for (Entry entry : entries) {
+            set.add(entry.href());
+        }
+        this.hrefs = Collections.unmodifiableSet(set);
+    }
+
+    /**
+     * Read a directory index page.
+     *
+     * @param in the page content, closed when read
+     * @return the listing
+     * @throws IOException if the page cannot be read
+     */
+    public static DirectoryListing read(InputStream in) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parseLine(line, entries);
+            }
+        }
+        return new DirectoryListing(entries);
+    }
+
+    private static void parseLine(String line, List<Entry> entries) {
+        Matcher anchor = ANCHOR.matcher(line);
+        if (!anchor.find()) {
+            return;
+        }
+        Matcher end = ANCHOR_END.matcher(line);
+        boolean more;
+        do {
+            String href = anchor.group(1) != null
+                    ? anchor.group(1)
+                    : anchor.group(2) != null ? anchor.group(2) : anchor.group(3);
+            int tailStart = end.find(anchor.end()) ? end.end() : anchor.end();
+            more = anchor.find(tailStart);
+            int tailEnd = more ? anchor.start() : line.length();
+
+            // columns following the link on the same line, if any
+            String tail = TAG.matcher(line.substring(Math.min(tailStart, tailEnd), tailEnd))
+                    .replaceAll(" ");
+            entries.add(parseColumns(unescape(href), tail));
+        } while (more);
+    }
+
+    private static Entry parseColumns(String href, String tail) {
+        Matcher m = DATE_SIZE.matcher(tail.replace("&nbsp;", " "));
+        if (!m.find()) {
+            return new Entry(href, -1, null);
+        }
+        return new Entry(href, parseSize(m.group(2), m.group(3)), parseDate(m.group(1)));
+    }
+
+    private static LocalDateTime parseDate(String date) {
+        try {
+            return LocalDateTime.parse(date, Character.isLetter(date.charAt(3)) ? HTTPD_DATE : ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static long parseSize(String number, String unit) {
+        if (number == null) {
+            return -1;
+        }
+        int shift = unit == null || unit.isEmpty() ? 0 : 10 * ("KMGT".indexOf(unit) + 1);
+        return (long) (Double.parseDouble(number) * (1L << shift));
+    }
+
+    private static String unescape(String href) {
+        if (href.indexOf('&') < 0) {
+            return href;
+        }
+        return href.replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+    }
+
+    /**
+     * <p>Getter for the field <code>entries</code>.</p>
+     *
+     * @return the links, in page order
+     */
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    /**
+     * <p>Getter for the field <code>hrefs</code>.</p>
+     *
+     * @return the link targets, in page order
+     */
+    public Set<String> getHrefs() {
+        return hrefs;
+    }
+
+    /**
+     * <p>contains.</p>
+     *
+     * @param href a link target
+     * @return <code>true</code> if the page links to this target
+     */
+    public boolean contains(String href) {
+        return hrefs.contains(href);
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.maven.dist.tools.http.FetchTimings;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listings of every directory of the distribution area, read once: checks then query directories without any
+ * further request.
+ * <p>
+ * The tree is crawled level by level, with every directory of a level read concurrently. A directory that cannot be
+ * read is remembered with its failure, which is thrown to the checks querying it or its sub-directories.
+ */
+public final class DistAreaSnapshot {
+    private static final Logger LOG = LoggerFactory.getLogger(DistAreaSnapshot.class);
+
+    /** Enough for <code>maven/maven-3/3.9.9/source/</code>. */
+    public static final int DEFAULT_MAX_DEPTH = 4;
+
+    private final String rootUrl;
+
+    private final int maxDepth;
+
+    private final Map<String, DirectoryListing> listings = new ConcurrentHashMap<>();
+
+    private final Map<String, IOException> failures = new ConcurrentHashMap<>();
+
+    private DistAreaSnapshot(String rootUrl, int maxDepth) {
+        this.rootUrl = rootUrl.endsWith("/") ? rootUrl : rootUrl + '/';
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Crawl the distribution area.
+     *
+     * @param transport the HTTP transport
+     * @param rootUrl the distribution area url
+     * @param maxDepth maximum depth of directories below the root
+     * @return the snapshot
+     * @throws IOException if the root directory cannot be read
+     */
+    public static DistAreaSnapshot crawl(HttpTransport transport, String rootUrl, int maxDepth) throws IOException {
+        DistAreaSnapshot snapshot = new DistAreaSnapshot(rootUrl, maxDepth);
+        long start = System.currentTimeMillis();
+
+        snapshot.listings.put("", DirectoryListing.read(transport.openStream(snapshot.rootUrl)));
+
+        List<String> level = snapshot.subDirectories("");
+        for (int depth = 1; depth <= maxDepth && !level.isEmpty(); depth++) {
+            List<String> next = new ArrayList<>();
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (String path : level) {
+                    executor.submit(FetchTimings.withArtifact(() -> snapshot.read(transport, path)));
+                }
+            } // close() waits for the whole level
+            for (String path : level) {
+                next.addAll(snapshot.subDirectories(path));
+            }
+            level = next;
+        }
+
+        LOG.info(
+                "Distribution area {}: {} directories read in {} ms, {} failed",
+                snapshot.rootUrl,
+                snapshot.listings.size(),
+                System.currentTimeMillis() - start,
+                snapshot.failures.size());
+        return snapshot;
+    }
+
+    private void read(HttpTransport transport, String path) {
+        try {
+            listings.put(path, DirectoryListing.read(transport.openStream(rootUrl + path)));
+        } catch (IOException e) {
+            LOG.warn("Cannot read distribution area directory {}: {}", rootUrl + path, e.getMessage());
+            failures.put(path, e);
+        }
+    }
+
+    private List<String> subDirectories(String path) {
+        DirectoryListing listing = listings.get(path);
+        List<String> directories = new ArrayList<>();
+        if (listing != null) {
+            for (DirectoryListing.Entry entry : listing.getEntries()) {
+                String href = entry.href();
+                // only children: skip parent, absolute and sort links
+                if (entry.isDirectory()
+                        && href.indexOf('/') == href.length() - 1
+                        && !href.startsWith(".")
+                        && href.indexOf('?') < 0
+                        && href.indexOf(':') < 0) {
+                    directories.add(path + href);
+                }
+            }
+        }
+        return directories;
+    }
+
+    /**
+     * Listing of a directory of the distribution area.
+     *
+     * @param url the directory url, under the distribution area url
+     * @return the directory listing
+     * @throws IOException the failure if the directory could not be read, or {@link FileNotFoundException} if the
+     *             directory does not exist
+     */
+    public DirectoryListing getListing(String url) throws IOException {
+        if (!url.startsWith(rootUrl.substring(0, rootUrl.length() - 1))) {
+            throw new IllegalArgumentException(url + " is not in distribution area " + rootUrl);
+        }
+        String path = url.substring(rootUrl.length() - 1).replaceAll("/+", "/");
+        if (path.startsWith("/")) {
+            path = path.substring(1);
+        }
+        if (!path.isEmpty() && !path.endsWith("/")) {
+            path += '/';
+        }
+
+        DirectoryListing listing = listings.get(path);
+        if (listing != null) {
+            return listing;
+        }
+        // the directory or one of its parents failed
+        for (int i = path.length(); i > 0; i = path.lastIndexOf('/', i - 2) + 1) {
+            IOException failure = failures.get(path.substring(0, i));
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        throw new FileNotFoundException(url + (path.split("/").length > maxDepth
+                ? " is deeper than distribution area snapshot depth " + maxDepth
+                : " not found in distribution area"));
+    }
+
+    /**
+     * <p>size.</p>
+     *
+     * @return number of directories read
+     */
+    public int size() {
+        return listings.size();
+    }
+}
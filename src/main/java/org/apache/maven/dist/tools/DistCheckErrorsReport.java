@@ -18,14 +18,20 @@
  */
 package org.apache.maven.dist.tools;
 
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.LinkedHashSet;
 import java.util.Locale;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import org.apache.maven.dist.tools.index.DistCheckIndexPageReport;
 import org.apache.maven.dist.tools.pgp.CheckPgpKeysReport;
 import org.apache.maven.dist.tools.site.DistCheckSiteReport;
@@ -33,7 +39,6 @@ import org.apache.maven.dist.tools.source.DistCheckSourceReleaseReport;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.reporting.MavenReportException;
-import org.codehaus.plexus.util.FileUtils;
 
 /**
  * <p>DistCheckErrorsReport class.</p>
@@ -41,7 +46,7 @@ import org.codehaus.plexus.util.FileUtils;
  * @author skygo
  */
 @Mojo(name = "check-errors", requiresProject = false)
-public class DistCheckErrorsReport extends AbstractDistCheckReport {
+public class DistCheckErrorsReport extends AbstractDistCheckReport<AbstractCheckResult> {
 
     public static final String[] FAILURES_FILENAMES = {
         DistCheckSourceReleaseReport.FAILURES_FILENAME,
@@ -50,6 +55,10 @@ public class DistCheckErrorsReport extends AbstractDistCheckReport {
         CheckPgpKeysReport.FAILURES_FILENAME
     };
 
+    private static final ObjectReader EVENT_READER = new ObjectMapper().readerFor(ResultEvent.class);
+
+    private static final Pattern URL_PATTERN = Pattern.compile("https://[\\S]+");
+
     /**
      * {@inheritDoc}
      */
@@ -59,55 +68,86 @@ public class DistCheckErrorsReport extends AbstractDistCheckReport {
     }
 
     private boolean checkError(String failuresFilename) throws MavenReportException {
-        File failureFile = new File(failuresDirectory, failuresFilename);
-
-        try {
-            if (failureFile.exists()) {
-                String content = FileUtils.fileRead(failureFile);
-
-                String failure = failuresFilename.substring(0, failuresFilename.length() - 4);
-                Sink s = getSink();
-                s.section2();
-                s.sectionTitle2();
-                s.link("dist-tool-" + failure + ".html");
-                s.text(failure);
-                s.link_();
-                s.sectionTitle2_();
-                s.verbatim();
-                s.rawText(content);
-                s.verbatim_();
-                s.section2_();
-
-                Set<String> urls = new HashSet<>();
-                Pattern p = Pattern.compile("https://[\\S]+");
-                Matcher m = p.matcher(content);
+        String failure = failuresFilename.substring(0, failuresFilename.length() - 4);
+        File resultsFile = new File(failuresDirectory, failure + ".ndjson");
+        if (!resultsFile.exists()) {
+            return false;
+        }
+
+        // single pass over result events, without loading the whole file
+        StringBuilder content = new StringBuilder();
+        Set<String> urls = new LinkedHashSet<>();
+        int errors = 0;
+        int ignored = 0;
+        try (BufferedReader reader = Files.newBufferedReader(resultsFile.toPath(), StandardCharsets.UTF_8);
+                MappingIterator<ResultEvent> events = EVENT_READER.readValues(reader)) {
+            while (events.hasNext()) {
+                ResultEvent event = events.next();
+                if (ResultEvent.WARNING.equals(event.severity())) {
+                    ignored++;
+                    continue;
+                }
+                if (!ResultEvent.ERROR.equals(event.severity())) {
+                    // checks without failure
+                    continue;
+                }
+                errors++;
+                content.append(event.message()).append('\n');
+                for (String detail : event.details()) {
+                    content.append(" > ").append(detail).append(" <\n");
+                }
+
+                if (event.url() != null) {
+                    urls.add(event.url());
+                }
+                Matcher m = URL_PATTERN.matcher(event.message());
                 while (m.find()) {
                     urls.add(m.group());
                 }
-                if (!urls.isEmpty()) {
-                    s.list();
-                    for (String url : urls) {
-                        s.listItem();
-                        s.link(url);
-                        s.text(url);
-                        s.link_();
-                        s.listItem_();
-                    }
-                    s.list_();
-                }
             }
-
-            return failureFile.exists();
         } catch (IOException ioe) {
-            throw new MavenReportException("Cannot read " + failureFile, ioe);
+            throw new MavenReportException("Cannot read " + resultsFile, ioe);
+        }
+
+        if (errors == 0) {
+            return false;
+        }
+
+        Sink s = getSink();
+        s.section2();
+        s.sectionTitle2();
+        s.link("dist-tool-" + failure + ".html");
+        s.text(failure);
+        s.link_();
+        s.sectionTitle2_();
+        s.paragraph();
+        s.text(errors + " failures" + (ignored > 0 ? ", " + ignored + " ignored" : ""));
+        s.paragraph_();
+        s.verbatim();
+        s.text(content.toString());
+        s.verbatim_();
+        s.section2_();
+
+        if (!urls.isEmpty()) {
+            s.list();
+            for (String url : urls) {
+                s.listItem();
+                s.link(url);
+                s.text(url);
+                s.link_();
+                s.listItem_();
+            }
+            s.list_();
         }
+
+        return true;
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         boolean failure = false;
         for (String failuresFilename : FAILURES_FILENAMES) {
             failure |= checkError(failuresFilename);
@@ -157,5 +197,7 @@ public class DistCheckErrorsReport extends AbstractDistCheckReport {
      * {@inheritDoc}
      */
     @Override
-    protected void checkArtifact(ConfigurationLineInfo request, String repoBase) {}
+    protected AbstractCheckResult checkArtifact(ConfigurationLineInfo request, String repoBase) {
+        return null;
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only failures file, written asynchronously: checks running concurrently queue complete entries without
+ * blocking, and a single writer thread appends them in queue order to one buffered file. Multi-line entries are
+ * never interleaved.
+ * <p>
+ * There is one log per file in the JVM. Logs are flushed on demand, when the writer has nothing left to write,
+ * and on JVM shutdown.
+ */
+public final class FailureLog {
+    private static final Map<Path, FailureLog> LOGS = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(FailureLog::closeAll, "dist-tool-failure-log-shutdown"));
+    }
+
+    private final Path file;
+
+    private final Queue<String> queue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicLong appended = new AtomicLong();
+
+    private final Thread writer;
+
+    private volatile boolean closed;
+
+    private volatile IOException failure;
+
+    /** Count of entries written to the file: guarded by this. */
+    private long written;
+
+    private FailureLog(Path file) {
+        this.file = file;
+        this.writer = Thread.ofPlatform()
+                .daemon()
+                .name("dist-tool-failure-log-" + file.getFileName())
+                .start(this::run);
+    }
+
+    /**
+     * Log of a file, created on first use.
+     *
+     * @param file the file, created on first append
+     * @return the log
+     */
+    public static FailureLog get(File file) {
+        return LOGS.computeIfAbsent(file.toPath().toAbsolutePath(), FailureLog::new);
+    }
+
+    /**
+     * Flush the log of a file, if any.
+     *
+     * @param file the file
+     * @throws IOException if writing failed
+     */
+    public static void flush(File file) throws IOException {
+        FailureLog log = LOGS.get(file.toPath().toAbsolutePath());
+        if (log != null) {
+            log.flush();
+        }
+    }
+
+    /**
+     * Close the log of a file, if any, and delete the file.
+     *
+     * @param file the file
+     * @throws IOException if the file cannot be deleted
+     */
+    public static void reset(File file) throws IOException {
+        Path path = file.toPath().toAbsolutePath();
+        FailureLog log = LOGS.remove(path);
+        if (log != null) {
+            log.close();
+        }
+        Files.deleteIfExists(path);
+    }
+
+    private static void closeAll() {
+        for (FailureLog log : LOGS.values()) {
+            log.close();
+        }
+    }
+
+    /**
+     * Queue an entry: never blocks.
+     *
+     * @param entry the entry, with its line separators
+     */
+    public void append(String entry) {
+        queue.add(entry);
+        appended.incrementAndGet();
+        LockSupport.unpark(writer);
+    }
+
+    /**
+     * Wait until every entry queued before this call is written to the file.
+     *
+     * @throws IOException if writing failed
+     */
+    public void flush() throws IOException {
+        long target = appended.get();
+        LockSupport.unpark(writer);
+        synchronized (this) {
+            while (written < target && writer.isAlive()) {
+                try {
+                    wait(100);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while flushing " + file);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        BufferedWriter out = null;
+        long count = 0;
+        try {
+            while (true) {
+                String entry = queue.poll();
+                if (entry != null) {
+                    if (out == null) {
+                        out = Files.newBufferedWriter(
+                                file, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                    }
+                    out.write(entry);
+                    count++;
+                    continue;
+                }
+
+                // queue drained: make entries visible to readers
+                if (out != null) {
+                    out.flush();
+                }
+                synchronized (this) {
+                    written = count;
+                    notifyAll();
+                }
+                if (closed && queue.isEmpty()) {
+                    return;
+                }
+                LockSupport.park(this);
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            synchronized (this) {
+                notifyAll();
+            }
+        }
+    }
+}
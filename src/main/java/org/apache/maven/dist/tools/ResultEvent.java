@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.util.List;
+
+/**
+ * Result of a check, written as one JSON line to the <code>.ndjson</code> results stream of a report.
+ *
+ * @param report the report name, like <code>check-source-release</code>
+ * @param groupId the artifact groupId, or <code>null</code> if not about an artifact
+ * @param artifactId the artifactId, or <code>null</code> if not about an artifact
+ * @param version the checked version, or <code>null</code>
+ * @param check the kind of check, like <code>central</code> or <code>dist</code>
+ * @param severity <code>error</code>, <code>warning</code> when ignored, or <code>ok</code> for an artifact checked
+ *     without failure
+ * @param url the checked url, or <code>null</code>
+ * @param message the failure message, or how the artifact was checked
+ * @param details the failure details, like missing files
+ * @param ignored is the artifact configured to ignore failures of this check?
+ */
+public record ResultEvent(
+        String report,
+        String groupId,
+        String artifactId,
+        String version,
+        String check,
+        String severity,
+        String url,
+        String message,
+        List<String> details,
+        boolean ignored) {
+    /** Severity of failures. */
+    public static final String ERROR = "error";
+
+    /** Severity of ignored failures. */
+    public static final String WARNING = "warning";
+
+    /** Severity of artifacts checked without failure. */
+    public static final String OK = "ok";
+
+    /** Check of a whole artifact, for events of its completion. */
+    public static final String ARTIFACT_CHECK = "artifact";
+}
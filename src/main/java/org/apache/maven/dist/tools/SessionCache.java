@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.io.xpp3.MetadataXpp3Reader;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+import org.jsoup.nodes.Document;
+
+/**
+ * Data read by multiple reports during a Maven session: each item is fetched once, by whichever report asks first,
+ * and concurrent requests for the same item wait for that single fetch.
+ * Failures are not cached, so a later request tries again, except for the distribution area crawl: it would be
+ * restarted by every artifact check.
+ */
+@Named
+@Singleton
+public class SessionCache {
+    private static final String CONF = "dist-tool.conf";
+
+    private final HttpTransport transport;
+
+    private final Map<String, CompletableFuture<List<String>>> configurations = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Metadata>> metadatas = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Document>> documents = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<DistAreaSnapshot>> distAreas = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<SiteUrlResolver.Pom>> poms = new ConcurrentHashMap<>();
+
+    @FunctionalInterface
+    private interface Loader<T> {
+        T load() throws IOException;
+    }
+
+    /**
+     * <p>Constructor for SessionCache.</p>
+     *
+     * @param transport the HTTP transport
+     */
+    @Inject
+    public SessionCache(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Lines of the <code>dist-tool.conf</code> configuration.
+     *
+     * @return the unmodifiable configuration lines
+     * @throws IOException if the configuration cannot be read
+     */
+    public List<String> getConfiguration() throws IOException {
+        return computeOnce(configurations, CONF, () -> {
+            URL configuration = Thread.currentThread().getContextClassLoader().getResource(CONF);
+            List<String> lines = new ArrayList<>();
+            try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(configuration.openStream(), StandardCharsets.UTF_8))) {
+                String text;
+                while ((text = in.readLine()) != null) {
+                    lines.add(text);
+                }
+            }
+            return Collections.unmodifiableList(lines);
+        });
+    }
+
+    /**
+     * Use configuration lines instead of <code>dist-tool.conf</code> for the rest of the session.
+     *
+     * @param lines the configuration lines
+     */
+    public void useConfiguration(List<String> lines) {
+        configurations.put(CONF, CompletableFuture.completedFuture(List.copyOf(lines)));
+    }
+
+    /**
+     * Repository metadata of an artifact, ie for a groupId:artifactId in a repository.
+     *
+     * @param metadataUrl the <code>maven-metadata.xml</code> url
+     * @return the parsed metadata, shared: must not be modified
+     * @throws IOException if the metadata cannot be read
+     */
+    public Metadata getMetadata(String metadataUrl) throws IOException {
+        return computeOnce(metadatas, metadataUrl, () -> {
+            try (InputStream input = new BufferedInputStream(transport.openStream(metadataUrl))) {
+                return new MetadataXpp3Reader().read(input);
+            } catch (XmlPullParserException e) {
+                throw new IOException("cannot parse " + metadataUrl, e);
+            }
+        });
+    }
+
+    /**
+     * HTML document.
+     *
+     * @param url the document url
+     * @return the parsed document, shared: must not be modified
+     * @throws IOException if the document cannot be read
+     */
+    public Document getDocument(String url) throws IOException {
+        return computeOnce(documents, url, () -> transport.getDocument(url));
+    }
+
+    /**
+     * Snapshot of the whole distribution area, crawled once in the session even if it fails.
+     *
+     * @param url the distribution area url
+     * @return the listings of every directory
+     * @throws IOException if the distribution area cannot be read, the same failure for the rest of the session
+     */
+    public DistAreaSnapshot getDistAreaSnapshot(String url) throws IOException {
+        return computeOnce(
+                distAreas,
+                url,
+                () -> DistAreaSnapshot.crawl(transport, url, DistAreaSnapshot.DEFAULT_MAX_DEPTH),
+                true);
+    }
+
+    /**
+     * POM elements involved in site url, for parent POMs shared by most artifacts.
+     *
+     * @param url the POM url
+     * @return the parsed POM
+     * @throws IOException if the POM cannot be read
+     */
+    public SiteUrlResolver.Pom getPom(String url) throws IOException {
+        return computeOnce(poms, url, () -> SiteUrlResolver.read(transport, url));
+    }
+
+    private static <T> T computeOnce(Map<String, CompletableFuture<T>> cache, String key, Loader<T> loader)
+            throws IOException {
+        return computeOnce(cache, key, loader, false);
+    }
+
+    private static <T> T computeOnce(
+            Map<String, CompletableFuture<T>> cache, String key, Loader<T> loader, boolean keepFailure)
+            throws IOException {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<T> cached = cache.putIfAbsent(key, future);
+        if (cached == null) {
+            cached = future;
+            try {
+                future.complete(loader.load());
+            } catch (IOException | RuntimeException e) {
+                if (!keepFailure) {
+                    // next request will try again
+                    cache.remove(key, future);
+                }
+                future.completeExceptionally(e);
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw ce;
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.dist.tools.http.HttpStatusException;
+import org.apache.maven.dist.tools.http.HttpTransport;
+
+/**
+ * Site url of an artifact, as inherited by Maven from parent POMs, without building the whole project model.
+ * POMs are stream-parsed for the few elements involved, and parents are read only as far as needed: until a url is
+ * found and its expressions are resolved. Parent POMs are shared through the {@link SessionCache}.
+ * <p>
+ * Like Maven model inheritance, a POM without url inherits the url of its parent with its artifactId appended,
+ * unless <code>child.project.url.inherit.append.path="false"</code>. Expressions are interpolated in the context of
+ * the artifact POM: <code>project.*</code> coordinates and properties, from the POM or its parents.
+ */
+public class SiteUrlResolver {
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    private static final Pattern EXPRESSION = Pattern.compile("\\$\\{([^}]+)}");
+
+    /** Maximum nesting of expressions in property values. */
+    private static final int MAX_INTERPOLATION_DEPTH = 10;
+
+    /**
+     * Parent coordinates.
+     *
+     * @param groupId the parent groupId
+     * @param artifactId the parent artifactId
+     * @param version the parent version
+     */
+    public record Parent(String groupId, String artifactId, String version) {}
+
+    /**
+     * Elements of a POM involved in the site url.
+     *
+     * @param groupId the groupId, or <code>null</code> if inherited
+     * @param artifactId the artifactId
+     * @param version the version, or <code>null</code> if inherited
+     * @param parent the parent, or <code>null</code>
+     * @param url the url, or <code>null</code> if inherited
+     * @param appendPath the <code>child.project.url.inherit.append.path</code> attribute, or <code>null</code>
+     * @param properties the properties
+     */
+    public record Pom(
+            String groupId,
+            String artifactId,
+            String version,
+            Parent parent,
+            String url,
+            Boolean appendPath,
+            Map<String, String> properties) {
+
+        /**
+         * Parse a POM, skipping elements not involved in the site url.
+         *
+         * @param input the POM content
+         * @return the parsed elements
+         * @throws XMLStreamException if the POM is not well-formed
+         */
+        public static Pom parse(InputStream input) throws XMLStreamException {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(input);
+            try {
+                Map<String, String> project = new HashMap<>();
+                Map<String, String> parent = new HashMap<>();
+                Map<String, String> properties = new HashMap<>();
+                Boolean appendPath = null;
+                List<String> path = new ArrayList<>();
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String name = reader.getLocalName();
+                        path.add(name);
+                        if (path.size() == 1) {
+                            String value = reader.getAttributeValue(null, "child.project.url.inherit.append.path");
+                            appendPath = value == null ? null : Boolean.valueOf(value.trim());
+                        } else if (path.size() == 2 && (isCoordinate(name) || "url".equals(name))) {
+                            project.put(name, reader.getElementText().trim());
+                            path.remove(path.size() - 1);
+                        } else if (path.size() == 3 && "parent".equals(path.get(1)) && isCoordinate(name)) {
+                            parent.put(name, reader.getElementText().trim());
+                            path.remove(path.size() - 1);
+                        } else if (path.size() == 3 && "properties".equals(path.get(1))) {
+                            properties.put(name, reader.getElementText().trim());
+                            path.remove(path.size() - 1);
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        path.remove(path.size() - 1);
+                    }
+                }
+                return new Pom(
+                        project.get("groupId"),
+                        project.get("artifactId"),
+                        project.get("version"),
+                        parent.isEmpty()
+                                ? null
+                                : new Parent(parent.get("groupId"), parent.get("artifactId"), parent.get("version")),
+                        project.get("url"),
+                        appendPath,
+                        Collections.unmodifiableMap(properties));
+            } finally {
+                reader.close();
+            }
+        }
+
+        private static boolean isCoordinate(String name) {
+            return "groupId".equals(name) || "artifactId".equals(name) || "version".equals(name);
+        }
+    }
+
+    private final HttpTransport transport;
+
+    private final SessionCache sessionCache;
+
+    private final String repoBaseUrl;
+
+    /**
+     * <p>Constructor for SiteUrlResolver.</p>
+     *
+     * @param transport the HTTP transport, to read artifact POMs
+     * @param sessionCache the session cache, to share parent POMs
+     * @param repoBaseUrl the repository url
+     */
+    public SiteUrlResolver(HttpTransport transport, SessionCache sessionCache, String repoBaseUrl) {
+        this.transport = transport;
+        this.sessionCache = sessionCache;
+        this.repoBaseUrl = repoBaseUrl;
+    }
+
+    /**
+     * Read and parse a POM.
+     *
+     * @param transport the HTTP transport
+     * @param url the POM url
+     * @return the parsed POM
+     * @throws IOException if the POM cannot be read or parsed
+     */
+    static Pom read(HttpTransport transport, String url) throws IOException {
+        try (InputStream input = new BufferedInputStream(transport.openStream(url))) {
+            return Pom.parse(input);
+        } catch (XMLStreamException e) {
+            throw new IOException("cannot parse " + url, e);
+        }
+    }
+
+    private String pomUrl(String groupId, String artifactId, String version) {
+        return repoBaseUrl + groupId.replace('.', '/') + '/' + artifactId + '/' + version + '/' + artifactId + '-'
+                + version + ".pom";
+    }
+
+    /**
+     * Site url of an artifact.
+     *
+     * @param groupId the groupId
+     * @param artifactId the artifactId
+     * @param version the version
+     * @return the site url, or <code>null</code> if neither the POM nor its parents define one
+     * @throws IOException if the POM or a parent POM cannot be read
+     */
+    public String resolve(String groupId, String artifactId, String version) throws IOException {
+        try {
+            List<Pom> chain = new ArrayList<>();
+            chain.add(read(transport, pomUrl(groupId, artifactId, version)));
+
+            int owner = 0;
+            while (chain.get(owner).url() == null) {
+                if (!extend(chain)) {
+                    return null;
+                }
+                owner++;
+            }
+
+            String url = chain.get(owner).url();
+            for (int i = owner - 1; i >= 0; i--) {
+                if (isAppendPath(chain, i + 1)) {
+                    url = appendPath(url, chain.get(i).artifactId());
+                }
+            }
+
+            String interpolated = interpolate(url, chain);
+            while (interpolated.contains("${") && extend(chain)) {
+                // properties may come from further ancestors
+                interpolated = interpolate(url, chain);
+            }
+            return interpolated;
+        } catch (HttpStatusException hse) {
+            // a missing POM is not a site failure
+            throw new IOException("cannot read POM " + hse.getUrl() + ": HTTP status " + hse.getStatusCode(), hse);
+        }
+    }
+
+    /**
+     * Add the parent of the last POM of the chain.
+     *
+     * @return <code>false</code> if the last POM has no parent
+     */
+    private boolean extend(List<Pom> chain) throws IOException {
+        Parent parent = chain.get(chain.size() - 1).parent();
+        if (parent == null) {
+            return false;
+        }
+        chain.add(sessionCache.getPom(pomUrl(parent.groupId(), parent.artifactId(), parent.version())));
+        return true;
+    }
+
+    /**
+     * Do children of a POM append their artifactId to its url? The attribute is inherited, <code>true</code> by
+     * default.
+     */
+    private boolean isAppendPath(List<Pom> chain, int index) throws IOException {
+        for (int i = index; i < chain.size() || extend(chain); i++) {
+            Boolean appendPath = chain.get(i).appendPath();
+            if (appendPath != null) {
+                return appendPath;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Append a path to an url, like Maven: with a single slash, keeping the trailing slash of the url.
+     *
+     * @param url the parent url
+     * @param path the child path
+     * @return the child url
+     */
+    static String appendPath(String url, String path) {
+        StringBuilder sb = new StringBuilder(url);
+        if (!path.isEmpty()) {
+            boolean urlEndsWithSlash = sb.length() > 0 && sb.charAt(sb.length() - 1) == '/';
+            if (path.charAt(0) == '/') {
+                if (urlEndsWithSlash) {
+                    sb.setLength(sb.length() - 1);
+                }
+            } else if (!urlEndsWithSlash) {
+                sb.append('/');
+            }
+            sb.append(path);
+            if (urlEndsWithSlash && !path.endsWith("/")) {
+                sb.append('/');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String interpolate(String url, List<Pom> chain) {
+        String result = url;
+        for (int depth = 0; depth < MAX_INTERPOLATION_DEPTH && result.contains("${"); depth++) {
+            Matcher m = EXPRESSION.matcher(result);
+            StringBuilder sb = new StringBuilder();
+            boolean changed = false;
+            while (m.find()) {
+                String value = evaluate(m.group(1), chain);
+                changed |= value != null;
+                m.appendReplacement(sb, Matcher.quoteReplacement(value == null ? m.group() : value));
+            }
+            m.appendTail(sb);
+            result = sb.toString();
+            if (!changed) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static String evaluate(String expression, List<Pom> chain) {
+        Pom pom = chain.get(0);
+        Parent parent = pom.parent();
+        String field = expression.startsWith("project.")
+                ? expression.substring("project.".length())
+                : expression.startsWith("pom.") ? expression.substring("pom.".length()) : null;
+        if (field != null) {
+            return switch (field) {
+                case "groupId" -> pom.groupId() != null ? pom.groupId() : parent == null ? null : parent.groupId();
+                case "artifactId" -> pom.artifactId();
+                case "version" -> pom.version() != null ? pom.version() : parent == null ? null : parent.version();
+                case "parent.groupId" -> parent == null ? null : parent.groupId();
+                case "parent.artifactId" -> parent == null ? null : parent.artifactId();
+                case "parent.version" -> parent == null ? null : parent.version();
+                default -> null;
+            };
+        }
+        for (Pom p : chain) {
+            String value = p.properties().get(expression);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+}
@@ -33,13 +33,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.apache.maven.dist.tools.AbstractDistToolReport;
 import org.apache.maven.dist.tools.IconsUtils;
 import org.apache.maven.dist.tools.committers.MavenCommittersRepository.Committer;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet.Semantics;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.apache.maven.reporting.AbstractMavenReport;
 import org.apache.maven.reporting.AbstractMavenReportRenderer;
 import org.apache.maven.reporting.MavenReportException;
 import reactor.core.publisher.Flux;
@@ -48,7 +48,7 @@ import reactor.core.publisher.Flux;
  * Generate a Committers statistic
  */
 @Mojo(name = "committers-stats", requiresProject = false)
-public class CommittersStatsReport extends AbstractMavenReport {
+public class CommittersStatsReport extends AbstractDistToolReport {
 
     public static final int LAST_ACTIVITY_MONTHS_ERROR = 4 * 12;
 
@@ -315,7 +315,7 @@ public class CommittersStatsReport extends AbstractMavenReport {
     }
 
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         new Renderer(getSink(), getName(locale)).render();
     }
 
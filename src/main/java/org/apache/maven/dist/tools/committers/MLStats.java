@@ -18,6 +18,8 @@
  */
 package org.apache.maven.dist.tools.committers;
 
+import javax.inject.Inject;
+
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
@@ -25,18 +27,12 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.maven.dist.tools.JsonRetry;
 import org.apache.maven.dist.tools.committers.MavenCommittersRepository.Committer;
+import org.apache.maven.dist.tools.http.HttpTransport;
 import org.apache.maven.doxia.sink.Sink;
-import org.eclipse.jetty.client.Request;
-import org.eclipse.jetty.reactive.client.ReactiveRequest;
-import org.eclipse.jetty.reactive.client.ReactiveResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -48,7 +44,8 @@ public abstract class MLStats {
 
     private final Logger log = LoggerFactory.getLogger(MLStats.class);
 
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    @Inject
+    private HttpTransport transport;
 
     private static final String ML_STATS_ADDRES = "https://lists.apache.org/api/stats.lua";
 
@@ -72,35 +69,29 @@ public abstract class MLStats {
         sink.text(" and header_from " + (name ? "committer name" : "<committerId>@apache.org"));
     }
 
+    /**
+     * Projection of the stats response: only the date of the last post is buffered and bound, the emails and
+     * participants being skipped as the response is tokenized.
+     */
+    record LastPost(Integer lastYear, Integer lastMonth) {}
+
     public Mono<String> getLastAsync(Committer committer) {
         List<URI> uris = getQueryParamsList(committer).stream()
                 .map(this::prepareStatsURI)
                 .toList();
 
         return Flux.fromIterable(uris)
-                .flatMapSequential(uri -> {
-                    Request request = JsonRetry.getInstance()
-                            .getHttpClient()
-                            .newRequest(uri.toString())
-                            .headers(f -> f.add("Accept", "application/json"))
-                            .timeout(60, TimeUnit.SECONDS);
-                    ReactiveRequest reactiveRequest =
-                            ReactiveRequest.newBuilder(request).build();
-                    return Mono.from(reactiveRequest.response(ReactiveResponse.Content.asString()))
-                            .flatMap(json -> {
-                                try {
-                                    Optional<String> last = parseLastFromNode(OBJECT_MAPPER.readTree(json));
-                                    log.info("Query: {}, returns: {}", uri, last);
-                                    return Mono.justOrEmpty(last);
-                                } catch (Exception e) {
-                                    return Mono.error(e);
-                                }
-                            })
-                            .onErrorResume(e -> {
-                                log.warn("Query: {}, error: {}", uri, e.getMessage());
-                                return Mono.empty();
-                            });
-                })
+                .flatMapSequential(uri -> transport
+                        .getJsonAsync(uri.toString(), LastPost.class)
+                        .flatMap(lastPost -> {
+                            Optional<String> last = formatLast(lastPost);
+                            log.info("Query: {}, returns: {}", uri, last);
+                            return Mono.justOrEmpty(last);
+                        })
+                        .onErrorResume(e -> {
+                            log.warn("Query: {}, error: {}", uri, e.getMessage());
+                            return Mono.empty();
+                        }))
                 .collect(Collectors.maxBy(Comparator.naturalOrder()))
                 .map(opt -> opt.orElse("-"));
     }
@@ -109,14 +100,12 @@ public abstract class MLStats {
         return getLastAsync(committer).block();
     }
 
-    private Optional<String> parseLastFromNode(JsonNode node) {
-        JsonNode lastYearNode = node.get("lastYear");
-        JsonNode lastMonthNode = node.get("lastMonth");
-        if (lastYearNode == null || lastMonthNode == null) {
+    private Optional<String> formatLast(LastPost lastPost) {
+        Integer lastYear = lastPost.lastYear();
+        Integer lastMonth = lastPost.lastMonth();
+        if (lastYear == null || lastMonth == null) {
             return Optional.empty();
         }
-        int lastYear = lastYearNode.asInt();
-        int lastMonth = lastMonthNode.asInt();
         if (lastYear == 1970 && lastMonth == 1) {
             return Optional.empty();
         }
@@ -18,6 +18,7 @@
  */
 package org.apache.maven.dist.tools.committers;
 
+import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 
@@ -26,12 +27,7 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.UncheckedIOException;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
-import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -43,6 +39,7 @@ import java.util.TreeMap;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import org.apache.maven.dist.tools.http.HttpTransport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,57 +66,46 @@ public class MavenCommittersRepository {
 
     private final Map<String, Committer> committers = new TreeMap<>();
 
+    private final HttpTransport transport;
+
     private final String asfProjectUrl;
 
-    MavenCommittersRepository() {
-        this(ASF_PROJECT_URL);
+    @Inject
+    MavenCommittersRepository(HttpTransport transport) {
+        this(transport, ASF_PROJECT_URL);
     }
 
-    MavenCommittersRepository(String asfProjectUrl) {
+    MavenCommittersRepository(HttpTransport transport, String asfProjectUrl) {
+        this.transport = transport;
         this.asfProjectUrl = asfProjectUrl;
-        try {
-            loadData();
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
     }
 
-    public Collection<Committer> getCommitters() {
+    /**
+     * Committers are loaded on first access, once the reports have configured the HTTP transport.
+     *
+     * @return the Maven committers
+     */
+    public synchronized Collection<Committer> getCommitters() {
+        if (committers.isEmpty()) {
+            try {
+                loadData();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
         return committers.values();
     }
 
     private void loadData() throws IOException {
 
-        try (HttpClient client = HttpClient.newHttpClient()) {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .GET()
-                    .header("Accept", "application/json")
-                    .uri(URI.create(asfProjectUrl + ASF_GROUP_FILE))
-                    .timeout(Duration.ofSeconds(60))
-                    .build();
-
-            LOG.info("Loading Maven groups");
-            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-            loadMavenGroup(response.body());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
+        LOG.info("Loading Maven groups");
+        try (InputStream input = transport.openStream(asfProjectUrl + ASF_GROUP_FILE)) {
+            loadMavenGroup(input);
         }
 
-        try (HttpClient client = HttpClient.newHttpClient()) {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .GET()
-                    .header("Accept", "application/json")
-                    .uri(URI.create(asfProjectUrl + ASF_PEOPLE_FILE))
-                    .timeout(Duration.ofSeconds(60))
-                    .build();
-
-            LOG.info("Loading Committers names");
-            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
-            loadPeopleName(response.body());
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException(e);
+        LOG.info("Loading Committers names");
+        try (InputStream input = transport.openStream(asfProjectUrl + ASF_PEOPLE_FILE)) {
+            loadPeopleName(input);
         }
 
         loadPeopleNameSupplement();
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Circuit breaker per host: after consecutive failures, the host is considered down and requests fail fast with
+ * {@link HostUnavailableException} instead of paying timeouts and retries. After a cool down, one probe request is
+ * let through: its success closes the circuit, its failure opens it again.
+ */
+public class CircuitBreaker {
+    private static final Logger LOG = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    /** Circuit state. */
+    public enum State {
+        /** Requests are sent. */
+        CLOSED,
+        /** Requests fail fast. */
+        OPEN,
+        /** One probe request is sent. */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+
+    private final long openNanos;
+
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Constructor for CircuitBreaker.</p>
+     *
+     * @param failureThreshold consecutive failures opening the circuit
+     * @param openDuration how long requests fail fast before a probe
+     */
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+    }
+
+    /**
+     * Check that a request can be sent to the host.
+     *
+     * @param host the host
+     * @param url the url to request
+     * @throws HostUnavailableException if the circuit is open
+     */
+    public void check(String host, String url) throws HostUnavailableException {
+        if (host != null && !circuit(host).allow()) {
+            throw new HostUnavailableException(host, url);
+        }
+    }
+
+    /**
+     * Record a response from the host: the host is up, unless status is 502, 503 or 504.
+     *
+     * @param host the host
+     * @param status the response status
+     */
+    public void onResponse(String host, int status) {
+        if (host == null) {
+            return;
+        }
+        if (status == 502 || status == 503 || status == 504) {
+            circuit(host).onFailure("HTTP status " + status);
+        } else {
+            circuit(host).onSuccess();
+        }
+    }
+
+    /**
+     * Record a request to the host that failed without response: connection failure or timeout.
+     *
+     * @param host the host
+     * @param failure the failure
+     */
+    public void onFailure(String host, IOException failure) {
+        if (host != null && !(failure instanceof HostUnavailableException)) {
+            circuit(host).onFailure(failure.getMessage());
+        }
+    }
+
+    /**
+     * Record a request to the host that ended without outcome, like an interrupted or cancelled request: if it was the
+     * probe of a half-open circuit, next request is let through as probe.
+     *
+     * @param host the host
+     */
+    public void onAbandon(String host) {
+        if (host != null) {
+            circuit(host).onAbandon();
+        }
+    }
+
+    /**
+     * <p>getState.</p>
+     *
+     * @param host the host
+     * @return the circuit state of the host
+     */
+    public State getState(String host) {
+        Circuit circuit = circuits.get(host);
+        return circuit == null ? State.CLOSED : circuit.state;
+    }
+
+    private Circuit circuit(String host) {
+        return circuits.computeIfAbsent(host, Circuit::new);
+    }
+
+    private final class Circuit {
+        private final String host;
+
+        private volatile State state = State.CLOSED;
+
+        private int failures;
+
+        private long openedAt;
+
+        private boolean probing;
+
+        Circuit(String host) {
+            this.host = host;
+        }
+
+        synchronized boolean allow() {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                transition(State.HALF_OPEN, "cool down elapsed, probing");
+                probing = false;
+            }
+            if (state == State.HALF_OPEN) {
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+                return true;
+            }
+            return state == State.CLOSED;
+        }
+
+        synchronized void onSuccess() {
+            failures = 0;
+            if (state != State.CLOSED) {
+                transition(State.CLOSED, "request succeeded");
+            }
+        }
+
+        synchronized void onFailure(String reason) {
+            failures++;
+            if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+                transition(State.OPEN, failures + " consecutive failures, last: " + reason);
+                openedAt = System.nanoTime();
+            }
+        }
+
+        synchronized void onAbandon() {
+            if (state == State.HALF_OPEN) {
+                probing = false;
+            }
+        }
+
+        private void transition(State to, String reason) {
+            if (to == State.OPEN) {
+                LOG.warn("Circuit breaker for {}: {} -> {} ({})", host, state, to, reason);
+            } else {
+                LOG.info("Circuit breaker for {}: {} -> {} ({})", host, state, to, reason);
+            }
+            state = to;
+        }
+    }
+}
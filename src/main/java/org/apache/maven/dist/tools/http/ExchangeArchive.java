@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Archive of HTTP exchanges recorded during a real run, to replay the run offline with {@link ReplayServer}.
+ * <p>
+ * Like {@link ResponseCache}, each exchange is stored as 2 files named after the SHA-256 of method and url:
+ * <code>.body</code> with the content, and <code>.properties</code> with method, url, status and headers. The latest
+ * exchange for a method and url wins. Git remote listings, which don't use HTTP transport, are stored with
+ * <code>GIT</code> method.
+ */
+public class ExchangeArchive {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExchangeArchive.class);
+
+    private static final String BODY = ".body";
+
+    private static final String PROPERTIES = ".properties";
+
+    private static final String HEADER = "header.";
+
+    /** Headers kept in the archive. */
+    static final List<String> HEADERS =
+            List.of("Content-Type", "Content-Length", "Last-Modified", "ETag", "Retry-After");
+
+    /**
+     * A recorded exchange.
+     *
+     * @param method the HTTP method
+     * @param url the requested url, before redirects
+     * @param status the response status, after redirects
+     * @param headers the recorded headers, by name
+     * @param body the body file
+     */
+    public record Exchange(String method, String url, int status, Map<String, String> headers, Path body) {
+        /**
+         * Read recorded content.
+         *
+         * @return the recorded content
+         * @throws IOException if the body cannot be read
+         */
+        public byte[] content() throws IOException {
+            return Files.readAllBytes(body);
+        }
+    }
+
+    private final Path directory;
+
+    /**
+     * Open an archive directory, creating it if necessary.
+     *
+     * @param directory the archive directory
+     * @throws IOException if the directory cannot be created
+     */
+    public ExchangeArchive(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * <p>Getter for the field <code>directory</code>.</p>
+     *
+     * @return the archive directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Find the recorded exchange for a request.
+     *
+     * @param method the HTTP method
+     * @param url the url
+     * @return the exchange, or <code>null</code> if it was not recorded
+     */
+    public Exchange get(String method, String url) {
+        String key = key(method, url);
+        Path properties = directory.resolve(key + PROPERTIES);
+        if (!Files.exists(properties)) {
+            return null;
+        }
+        Properties p = new Properties();
+        try (InputStream in = Files.newInputStream(properties)) {
+            p.load(in);
+        } catch (IOException e) {
+            LOG.debug("Ignoring unreadable exchange for {} {}", method, url, e);
+            return null;
+        }
+        if (!canonical(url).equals(canonical(p.getProperty("url")))) {
+            return null;
+        }
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : p.stringPropertyNames()) {
+            if (name.startsWith(HEADER)) {
+                headers.put(name.substring(HEADER.length()), p.getProperty(name));
+            }
+        }
+        return new Exchange(
+                method, url, Integer.parseInt(p.getProperty("status")), headers, directory.resolve(key + BODY));
+    }
+
+    /**
+     * Record an exchange, replacing the previous one for the same method and url.
+     *
+     * @param method the HTTP method
+     * @param url the requested url
+     * @param status the response status
+     * @param headers the response headers: only {@link #HEADERS} are kept
+     * @param content the response content
+     */
+    public void put(String method, String url, int status, Map<String, String> headers, byte[] content) {
+        String key = key(method, url);
+        Properties p = new Properties();
+        p.setProperty("method", method);
+        p.setProperty("url", url);
+        p.setProperty("status", String.valueOf(status));
+        for (String name : HEADERS) {
+            String value = headers.get(name);
+            if (value != null) {
+                p.setProperty(HEADER + name, value);
+            }
+        }
+        try {
+            write(key + BODY, content);
+            Path tmp = Files.createTempFile(directory, key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                p.store(out, null);
+            }
+            Files.move(
+                    tmp,
+                    directory.resolve(key + PROPERTIES),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Cannot record exchange for {} {}: {}", method, url, e.getMessage());
+        }
+    }
+
+    private void write(String name, byte[] content) throws IOException {
+        Path tmp = Files.createTempFile(directory, name, ".tmp");
+        Files.write(tmp, content);
+        Files.move(tmp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Url with percent-encoded characters decoded, for the same url to match whether it was encoded by the client or
+     * not.
+     */
+    private static String canonical(String url) {
+        if (url == null || url.indexOf('%') < 0) {
+            return url;
+        }
+        try {
+            return URLDecoder.decode(url.replace("+", "%2B"), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            return url;
+        }
+    }
+
+    private static String key(String method, String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of()
+                    .formatHex(digest.digest((method + ' ' + canonical(url)).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.maven.dist.tools.jfr.FetchEvent;
+
+/**
+ * Timings of a Maven session: every fetch with its host, latency, size, retries and cache status, every artifact
+ * check and every report, to find where a run spends its time.
+ * <p>
+ * Fetches are attributed to the report being generated, and to the artifact being checked by the current thread.
+ * Each fetch is also a {@link FetchEvent} for Flight Recorder.
+ */
+public class FetchTimings {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private static final ThreadLocal<String> ARTIFACT = new ThreadLocal<>();
+
+    /** Upper bounds of latency histogram buckets, in milliseconds. */
+    private static final long[] BUCKETS = {10, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /** Cache status of a fetch without cache. */
+    public static final String NO_CACHE = "none";
+
+    /** Cache status of a fetch revalidated by the server. */
+    public static final String CACHE_HIT = "hit";
+
+    /** Cache status of a fetch downloaded. */
+    public static final String CACHE_MISS = "miss";
+
+    /**
+     * A fetch.
+     *
+     * @param mojo the report
+     * @param artifact the checked artifact, or <code>null</code>
+     * @param host the host
+     * @param method the HTTP method, or <code>git</code>
+     * @param url the url
+     * @param millis the latency including retries, in milliseconds
+     * @param bytes the downloaded content size
+     * @param retries the number of retries
+     * @param cache the cache status
+     * @param status the last HTTP status, or <code>-1</code>
+     * @param failure the failure message, or <code>null</code> if successful
+     */
+    public record Fetch(
+            String mojo,
+            String artifact,
+            String host,
+            String method,
+            String url,
+            long millis,
+            long bytes,
+            int retries,
+            String cache,
+            int status,
+            String failure) {}
+
+    /**
+     * An artifact check.
+     *
+     * @param mojo the report
+     * @param artifact the artifact
+     * @param millis the check duration, in milliseconds
+     */
+    public record Check(String mojo, String artifact, long millis) {}
+
+    /**
+     * Fetches to a host, or of an artifact, or of a report.
+     *
+     * @param name the host, artifact or report
+     * @param millis the total duration, in milliseconds: for artifacts and reports, their own duration
+     * @param requests the number of fetches
+     * @param fetchMillis the total latency of fetches, in milliseconds
+     * @param p50 the median fetch latency, in milliseconds
+     * @param p90 the 90th percentile fetch latency, in milliseconds
+     * @param p99 the 99th percentile fetch latency, in milliseconds
+     * @param max the maximum fetch latency, in milliseconds
+     * @param bytes the total downloaded size
+     * @param retries the total number of retries
+     * @param cacheHits the number of fetches revalidated by the server
+     * @param failures the number of failed fetches
+     * @param histogram count of fetches by latency bucket
+     */
+    public record Stats(
+            String name,
+            long millis,
+            int requests,
+            long fetchMillis,
+            long p50,
+            long p90,
+            long p99,
+            long max,
+            long bytes,
+            int retries,
+            int cacheHits,
+            int failures,
+            Map<String, Integer> histogram) {}
+
+    /**
+     * Rankings of the session, slowest first.
+     *
+     * @param hosts hosts, by total fetch latency
+     * @param artifacts artifacts, by check duration
+     * @param mojos reports, by duration
+     * @param slowest slowest fetches
+     */
+    public record Summary(List<Stats> hosts, List<Stats> artifacts, List<Stats> mojos, List<Fetch> slowest) {}
+
+    /**
+     * Timing of a fetch in progress.
+     */
+    public final class Sample {
+        private final String mojo = currentMojo;
+
+        private final String artifact = ARTIFACT.get();
+
+        private final String method;
+
+        private final String host;
+
+        private final String url;
+
+        private final long start = System.nanoTime();
+
+        private volatile long bytes;
+
+        private final AtomicInteger retries = new AtomicInteger();
+
+        private volatile String cache = NO_CACHE;
+
+        private volatile int status = -1;
+
+        private final FetchEvent event = new FetchEvent();
+
+        private Sample(String method, String host, String url) {
+            this.method = method;
+            this.host = host;
+            this.url = url;
+            event.begin();
+        }
+
+        /**
+         * <p>Setter for the field <code>bytes</code>.</p>
+         *
+         * @param bytes the downloaded content size
+         */
+        public void setBytes(long bytes) {
+            this.bytes = bytes;
+        }
+
+        /**
+         * Count a retry.
+         */
+        public void retry() {
+            retries.incrementAndGet();
+        }
+
+        /**
+         * <p>Setter for the field <code>cache</code>.</p>
+         *
+         * @param cache the cache status
+         */
+        public void setCache(String cache) {
+            this.cache = cache;
+        }
+
+        /**
+         * <p>Setter for the field <code>status</code>.</p>
+         *
+         * @param status the HTTP status
+         */
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        /**
+         * Record the fetch.
+         *
+         * @param failure the failure, or <code>null</code> if successful
+         */
+        public void end(Throwable failure) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.mojo = mojo;
+                event.artifact = artifact;
+                event.method = method;
+                event.url = url;
+                event.bytes = bytes;
+                event.retries = retries.get();
+                event.cache = cache;
+                event.status = status;
+                event.outcome = failure == null ? "ok" : String.valueOf(failure.getMessage());
+                event.commit();
+            }
+            fetches.add(new Fetch(
+                    mojo,
+                    artifact,
+                    host,
+                    method,
+                    url,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    bytes,
+                    retries.get(),
+                    cache,
+                    status,
+                    failure == null ? null : String.valueOf(failure.getMessage())));
+        }
+    }
+
+    private final Queue<Fetch> fetches = new ConcurrentLinkedQueue<>();
+
+    private final Queue<Check> checks = new ConcurrentLinkedQueue<>();
+
+    private final Map<String, Long> mojoMillis = new LinkedHashMap<>();
+
+    private volatile String currentMojo;
+
+    private long mojoStart;
+
+    /**
+     * Start timing a report: fetches are attributed to it until next report.
+     *
+     * @param mojo the report name
+     */
+    public synchronized void enterMojo(String mojo) {
+        exitMojo();
+        currentMojo = mojo;
+        mojoStart = System.nanoTime();
+    }
+
+    private void exitMojo() {
+        if (currentMojo != null) {
+            mojoMillis.merge(
+                    currentMojo, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - mojoStart), (a, b) -> a + b);
+            currentMojo = null;
+        }
+    }
+
+    /**
+     * <p>getCurrentMojo.</p>
+     *
+     * @return the report being generated, or <code>null</code>
+     */
+    public String getCurrentMojo() {
+        return currentMojo;
+    }
+
+    /**
+     * Attribute fetches of the current thread to an artifact.
+     *
+     * @param artifact the artifact, or <code>null</code> to stop
+     */
+    public static void setArtifact(String artifact) {
+        if (artifact == null) {
+            ARTIFACT.remove();
+        } else {
+            ARTIFACT.set(artifact);
+        }
+    }
+
+    /**
+     * Attribute fetches of a task run by another thread to the artifact of the current thread.
+     *
+     * @param task the task
+     * @param <T> the type of the task result
+     * @return the task, attributing its fetches
+     */
+    public static <T> Callable<T> withArtifact(Callable<T> task) {
+        String artifact = ARTIFACT.get();
+        return () -> {
+            setArtifact(artifact);
+            try {
+                return task.call();
+            } finally {
+                ARTIFACT.remove();
+            }
+        };
+    }
+
+    /**
+     * Attribute fetches of a task run by another thread to the artifact of the current thread.
+     *
+     * @param task the task
+     * @return the task, attributing its fetches
+     */
+    public static Runnable withArtifact(Runnable task) {
+        String artifact = ARTIFACT.get();
+        return () -> {
+            setArtifact(artifact);
+            try {
+                task.run();
+            } finally {
+                ARTIFACT.remove();
+            }
+        };
+    }
+
+    /**
+     * Start timing a fetch.
+     *
+     * @param method the HTTP method
+     * @param host the host
+     * @param url the url
+     * @return the sample to complete
+     */
+    public Sample start(String method, String host, String url) {
+        return new Sample(method, host, url);
+    }
+
+    /**
+     * Record an artifact check.
+     *
+     * @param artifact the artifact
+     * @param nanos the check duration, in nanoseconds
+     */
+    public void recordCheck(String artifact, long nanos) {
+        checks.add(new Check(currentMojo, artifact, TimeUnit.NANOSECONDS.toMillis(nanos)));
+    }
+
+    /**
+     * Rank hosts, artifacts and reports, slowest first. The current report is ended.
+     *
+     * @param limit maximum number of artifacts and fetches
+     * @return the summary
+     */
+    public synchronized Summary summarize(int limit) {
+        exitMojo();
+        List<Fetch> all = new ArrayList<>(fetches);
+
+        List<Stats> hosts = stats(all, Fetch::host, name -> null);
+        hosts.sort(Comparator.comparingLong(Stats::fetchMillis).reversed());
+
+        Map<String, Long> checkMillis = new LinkedHashMap<>();
+        for (Check check : checks) {
+            checkMillis.merge(check.mojo() + ' ' + check.artifact(), check.millis(), (a, b) -> a + b);
+        }
+        List<Stats> artifacts = stats(
+                all.stream().filter(f -> f.artifact() != null).toList(),
+                f -> f.mojo() + ' ' + f.artifact(),
+                checkMillis::get);
+        for (String name : checkMillis.keySet()) {
+            // checks without fetch, like reused outcomes
+            if (artifacts.stream().noneMatch(s -> s.name().equals(name))) {
+                artifacts.add(stats(name, checkMillis.get(name), List.of()));
+            }
+        }
+        artifacts.sort(Comparator.comparingLong(Stats::millis).reversed());
+
+        List<Stats> mojos = stats(all, Fetch::mojo, mojoMillis::get);
+        mojos.sort(Comparator.comparingLong(Stats::millis).reversed());
+
+        List<Fetch> slowest = all.stream()
+                .sorted(Comparator.comparingLong(Fetch::millis).reversed())
+                .limit(limit)
+                .toList();
+
+        return new Summary(hosts, artifacts.subList(0, Math.min(limit, artifacts.size())), mojos, slowest);
+    }
+
+    /**
+     * Write the summary as JSON.
+     *
+     * @param summary the summary
+     * @param file the JSON file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Summary summary, File file) throws IOException {
+        file.getParentFile().mkdirs();
+        MAPPER.writeValue(file, summary);
+    }
+
+    private static List<Stats> stats(
+            List<Fetch> fetches, Function<Fetch, String> key, Function<String, Long> ownMillis) {
+        Map<String, List<Fetch>> groups = new LinkedHashMap<>();
+        for (Fetch fetch : fetches) {
+            groups.computeIfAbsent(String.valueOf(key.apply(fetch)), k -> new ArrayList<>())
+                    .add(fetch);
+        }
+        List<Stats> stats = new ArrayList<>();
+        for (Map.Entry<String, List<Fetch>> group : groups.entrySet()) {
+            Long millis = ownMillis.apply(group.getKey());
+            stats.add(stats(group.getKey(), millis == null ? -1 : millis, group.getValue()));
+        }
+        return stats;
+    }
+
+    private static Stats stats(String name, long millis, List<Fetch> fetches) {
+        long[] latencies = fetches.stream().mapToLong(Fetch::millis).sorted().toArray();
+        Map<String, Integer> histogram = new LinkedHashMap<>();
+        for (long bucket : BUCKETS) {
+            histogram.put("<" + bucket + "ms", 0);
+        }
+        histogram.put(">=" + BUCKETS[BUCKETS.length - 1] + "ms", 0);
+        for (long latency : latencies) {
+            histogram.merge(bucket(latency), 1, Integer::sum);
+        }
+        long fetchMillis = 0;
+        for (long latency : latencies) {
+            fetchMillis += latency;
+        }
+        return new Stats(
+                name,
+                millis < 0 ? fetchMillis : millis,
+                fetches.size(),
+                fetchMillis,
+                percentile(latencies, 50),
+                percentile(latencies, 90),
+                percentile(latencies, 99),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1],
+                fetches.stream().mapToLong(Fetch::bytes).sum(),
+                fetches.stream().mapToInt(Fetch::retries).sum(),
+                (int) fetches.stream().filter(f -> CACHE_HIT.equals(f.cache())).count(),
+                (int) fetches.stream().filter(f -> f.failure() != null).count(),
+                histogram);
+    }
+
+    private static String bucket(long latency) {
+        for (long bucket : BUCKETS) {
+            if (latency < bucket) {
+                return "<" + bucket + "ms";
+            }
+        }
+        return ">=" + BUCKETS[BUCKETS.length - 1] + "ms";
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket per host, to avoid hammering ASF infrastructure with concurrent reports.
+ * Hosts without configured rate are not limited.
+ * <p>
+ * Permits are reserved: the caller gets the time to wait for its permit, which lets asynchronous callers delay
+ * without blocking a thread.
+ */
+public class HostRateLimiter {
+    /** Default requests per second, per host. */
+    public static final Map<String, Double> DEFAULT_RATES = Map.of(
+            "repo.maven.apache.org", 20.0,
+            "downloads.apache.org", 10.0,
+            "lists.apache.org", 5.0,
+            "ci-maven.apache.org", 5.0);
+
+    private final Map<String, Double> rates;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * <p>Constructor for HostRateLimiter.</p>
+     *
+     * @param rates requests per second, by host
+     */
+    public HostRateLimiter(Map<String, Double> rates) {
+        this.rates = rates;
+    }
+
+    /**
+     * Reserve a permit to send a request.
+     *
+     * @param host the target host
+     * @return the time to wait before sending, in nanoseconds
+     */
+    public long reserve(String host) {
+        Bucket bucket = bucket(host);
+        return bucket == null ? 0 : bucket.reserve(System.nanoTime());
+    }
+
+    /**
+     * Wait for a permit to send a request.
+     *
+     * @param host the target host
+     * @throws InterruptedIOException if interrupted while waiting
+     */
+    public void acquire(String host) throws InterruptedIOException {
+        long wait = reserve(host);
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for " + host + " rate limit");
+            }
+        }
+    }
+
+    /**
+     * Hold every request to a host, for example when it asked to slow down with <code>429</code>
+     * or <code>Retry-After</code>.
+     *
+     * @param host the host
+     * @param delay how long to hold requests
+     */
+    public void pause(String host, Duration delay) {
+        Bucket bucket = bucket(host);
+        if (bucket != null) {
+            bucket.pauseUntil(System.nanoTime() + delay.toNanos());
+        }
+    }
+
+    private Bucket bucket(String host) {
+        Double rate = host == null ? null : rates.get(host);
+        return rate == null ? null : buckets.computeIfAbsent(host, h -> new Bucket(rate));
+    }
+
+    /**
+     * Bucket holding up to 1 second of permits, refilled continuously.
+     */
+    private static final class Bucket {
+        private final double intervalNanos;
+
+        private final double maxPermits;
+
+        private double storedPermits;
+
+        private long nextFreeNanos = System.nanoTime();
+
+        Bucket(double permitsPerSecond) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+            this.maxPermits = Math.max(1, permitsPerSecond);
+            this.storedPermits = maxPermits;
+        }
+
+        synchronized long reserve(long now) {
+            if (now > nextFreeNanos) {
+                storedPermits = Math.min(maxPermits, storedPermits + (now - nextFreeNanos) / intervalNanos);
+                nextFreeNanos = now;
+            }
+            long wait = nextFreeNanos - now;
+            double fromStored = Math.min(1, storedPermits);
+            storedPermits -= fromStored;
+            nextFreeNanos += (long) ((1 - fromStored) * intervalNanos);
+            return wait;
+        }
+
+        synchronized void pauseUntil(long nanos) {
+            if (nanos > nextFreeNanos) {
+                nextFreeNanos = nanos;
+                storedPermits = 0;
+            }
+        }
+    }
+}
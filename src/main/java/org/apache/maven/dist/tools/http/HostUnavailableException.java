@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+
+/**
+ * Request not sent because the circuit breaker of the host is open, after repeated failures.
+ */
+public class HostUnavailableException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+
+    /**
+     * <p>Constructor for HostUnavailableException.</p>
+     *
+     * @param host the unavailable host
+     * @param url the requested url
+     */
+    public HostUnavailableException(String host, String url) {
+        super("Host unavailable: " + host + ", URL=" + url);
+        this.host = host;
+    }
+
+    /**
+     * <p>Getter for the field <code>host</code>.</p>
+     *
+     * @return the unavailable host
+     */
+    public String getHost() {
+        return host;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * HTTP response with an error status code.
+ */
+public class HttpStatusException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+
+    private final String url;
+
+    private final Duration retryAfter;
+
+    /**
+     * <p>Constructor for HttpStatusException.</p>
+     *
+     * @param statusCode the HTTP status code
+     * @param url the requested url
+     */
+    public HttpStatusException(int statusCode, String url) {
+        this(statusCode, url, null);
+    }
+
+    /**
+     * <p>Constructor for HttpStatusException.</p>
+     *
+     * @param statusCode the HTTP status code
+     * @param url the requested url
+     * @param retryAfter the delay requested by the server with <code>Retry-After</code> header, or <code>null</code>
+     */
+    public HttpStatusException(int statusCode, String url, Duration retryAfter) {
+        super("HTTP error fetching URL. Status=" + statusCode + ", URL=" + url);
+        this.statusCode = statusCode;
+        this.url = url;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * <p>Getter for the field <code>statusCode</code>.</p>
+     *
+     * @return the HTTP status code
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * <p>Getter for the field <code>url</code>.</p>
+     *
+     * @return the requested url
+     */
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * <p>Getter for the field <code>retryAfter</code>.</p>
+     *
+     * @return the delay requested by the server before retrying, or <code>null</code>
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,899 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.eclipse.jetty.client.CompletableResponseListener;
+import org.eclipse.jetty.client.ContentResponse;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.InputStreamResponseListener;
+import org.eclipse.jetty.client.Request;
+import org.eclipse.jetty.client.Response;
+import org.eclipse.jetty.client.transport.HttpClientConnectionFactory;
+import org.eclipse.jetty.client.transport.HttpClientTransportDynamic;
+import org.eclipse.jetty.http.HttpField;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.MimeTypes;
+import org.eclipse.jetty.http2.client.HTTP2Client;
+import org.eclipse.jetty.http2.client.transport.ClientConnectionFactoryOverHTTP2;
+import org.eclipse.jetty.io.ClientConnector;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * HTTP transport shared by every report: one Jetty {@link HttpClient} keeping connections alive in a pool per host,
+ * negotiating HTTP/2 with ALPN when the host supports it, and decoding gzip content transparently.
+ * TLS handshakes and sockets are then reused across the thousands of requests of a <code>site</code> run.
+ */
+@Named
+@Singleton
+public class HttpTransport {
+
+    private static final Logger LOG = LoggerFactory.getLogger(HttpTransport.class);
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    private static final int MAX_CONNECTIONS_PER_HOST = 16;
+
+    private static final int MAX_CONTENT_LENGTH = 64 * 1024 * 1024;
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 6.1; Win64; x64; rv:25.0) Gecko/20100101 Firefox/25.0";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+
+    private final RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
+
+    private final HostRateLimiter rateLimiter = new HostRateLimiter(HostRateLimiter.DEFAULT_RATES);
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(5, Duration.ofMinutes(1));
+
+    private final FetchTimings timings = new FetchTimings();
+
+    private volatile ResponseCache cache;
+
+    private volatile ExchangeArchive recording;
+
+    private volatile StandInServer standIn;
+
+    /**
+     * Response body, either fresh from the network or from the cache.
+     */
+    private record Body(byte[] content, String encoding) {}
+
+    /**
+     * Response body stream, with the charset of the response.
+     */
+    private record ContentStream(InputStream in, String encoding) {}
+
+    /**
+     * Create and start the shared HTTP client.
+     */
+    public HttpTransport() {
+        ClientConnector connector = new ClientConnector();
+        // HTTP/1.1 is used for clear-text connections, HTTP/2 is negotiated with ALPN on TLS connections
+        httpClient = new HttpClient(new HttpClientTransportDynamic(
+                connector,
+                HttpClientConnectionFactory.HTTP11,
+                new ClientConnectionFactoryOverHTTP2.HTTP2(new HTTP2Client(connector))));
+        httpClient.setUserAgentField(new HttpField(HttpHeader.USER_AGENT, USER_AGENT));
+        httpClient.setMaxConnectionsPerDestination(MAX_CONNECTIONS_PER_HOST);
+        httpClient.setFollowRedirects(true);
+        try {
+            httpClient.start();
+        } catch (Exception e) {
+            throw new IllegalStateException("Cannot start HTTP client", e);
+        }
+    }
+
+    /**
+     * <p>Getter for the field <code>httpClient</code>.</p>
+     *
+     * @return the shared HTTP client
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * <p>Getter for the field <code>circuitBreaker</code>.</p>
+     *
+     * @return the circuit breakers of the hosts
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * <p>Getter for the field <code>timings</code>.</p>
+     *
+     * @return the timings of every fetch of the Maven session
+     */
+    public FetchTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * Create a GET request with default timeout, authenticated with <code>API_TOKEN</code> environment variable
+     * when it targets Apache infrastructure.
+     *
+     * @param url the url
+     * @return the request, not yet sent
+     */
+    public Request newRequest(String url) {
+        StandInServer server = standIn;
+        Request request = httpClient
+                .newRequest(server != null ? server.rewrite(url) : url)
+                .timeout(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        String apiToken = System.getenv("API_TOKEN");
+        if (StringUtils.isNotBlank(apiToken) && isApacheHost(request.getHost())) {
+            request.headers(httpFields -> httpFields.put(HttpHeader.AUTHORIZATION, "Basic " + apiToken));
+        }
+        return request;
+    }
+
+    /**
+     * Store responses in an on-disk cache, revalidated on later reads. Reports share the transport during a Maven
+     * session: the cache is opened once per directory, so force refresh applies only to entries stored before.
+     *
+     * @param directory the cache directory
+     * @param maxSize maximum cache size, in bytes
+     * @param refresh <code>true</code> to refetch entries stored before this session
+     * @throws IOException if the cache directory cannot be used
+     */
+    public synchronized void configureCache(File directory, long maxSize, boolean refresh) throws IOException {
+        if (cache == null || !cache.getDirectory().equals(directory.toPath())) {
+            cache = new ResponseCache(directory.toPath(), maxSize, refresh);
+        }
+    }
+
+    /**
+     * Record every exchange in an archive, to replay the run offline with {@link #configureReplay(File, int)}.
+     * Responses are not cached while recording, so that every exchange is recorded with its content.
+     *
+     * @param directory the archive directory, or <code>null</code> to not record
+     * @throws IOException if the archive directory cannot be used
+     */
+    public synchronized void configureRecording(File directory) throws IOException {
+        if (directory != null && (recording == null || !recording.getDirectory().equals(directory.toPath()))) {
+            LOG.info("Recording HTTP exchanges to {}", directory);
+            recording = new ExchangeArchive(directory.toPath());
+        }
+    }
+
+    /**
+     * Replay exchanges recorded with {@link #configureRecording(File)} from an embedded server, instead of using the
+     * network. The server is started once per Maven session.
+     *
+     * @param directory the archive directory, or <code>null</code> to use the network
+     * @param port the port of the embedded server, or <code>0</code> for any free port
+     * @throws IOException if the server cannot start
+     */
+    public synchronized void configureReplay(File directory, int port) throws IOException {
+        if (directory != null && standIn == null) {
+            ReplayServer server = new ReplayServer(new ExchangeArchive(directory.toPath()), port);
+            server.start();
+            LOG.info("Replaying HTTP exchanges from {} with {}", directory, server.getBaseUrl());
+            redirectTo(server);
+        }
+    }
+
+    /**
+     * Send every request to a stand-in server instead of the network. Responses are not cached.
+     *
+     * @param server the started stand-in server
+     */
+    public synchronized void redirectTo(StandInServer server) {
+        standIn = server;
+    }
+
+    /**
+     * <p>Getter for the field <code>standIn</code>.</p>
+     *
+     * @return the stand-in server receiving every request, or <code>null</code> when using the network
+     */
+    public StandInServer getStandIn() {
+        return standIn;
+    }
+
+    /**
+     * Record an exchange that does not use this transport, like a Git remote listing, if recording.
+     *
+     * @param method the method
+     * @param url the url
+     * @param content the content
+     */
+    public void recordExchange(String method, String url, byte[] content) {
+        ExchangeArchive archive = recording;
+        if (archive != null) {
+            archive.put(method, url, 200, Map.of(), content);
+        }
+    }
+
+    private void record(String method, String url, Response response, byte[] content) {
+        ExchangeArchive archive = recording;
+        if (archive != null) {
+            Map<String, String> headers = new HashMap<>();
+            for (String name : ExchangeArchive.HEADERS) {
+                String value = response.getHeaders().get(name);
+                if (value != null) {
+                    headers.put(name, value);
+                }
+            }
+            archive.put(method, url, response.getStatus(), headers, content);
+        }
+    }
+
+    private static boolean isApacheHost(String host) {
+        return host != null && (host.equals("apache.org") || host.endsWith(".apache.org"));
+    }
+
+    private static String hostOf(String url) {
+        try {
+            return URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * GET url content, revalidating cached content if any, retrying transient failures as defined by
+     * {@link RetryPolicy}.
+     *
+     * @param url the url
+     * @return the content of a successful response
+     * @throws IOException if the content cannot be fetched
+     */
+    private Body get(String url) throws IOException {
+        ResponseCache responseCache = activeCache();
+        ResponseCache.Entry cached = responseCache != null ? responseCache.get(url) : null;
+        Body body = get(url, responseCache, cached);
+        if (body == null) {
+            // cached content evicted since the conditional request: fetch again without validators
+            body = get(url, responseCache, null);
+        }
+        return body;
+    }
+
+    /**
+     * GET url content, revalidating the given cached content if any.
+     *
+     * @return the content of a successful response, or <code>null</code> if the cached content was evicted
+     */
+    private Body get(String url, ResponseCache responseCache, ResponseCache.Entry cached) throws IOException {
+        FetchTimings.Sample sample = timings.start("GET", hostOf(url), url);
+        return retrying(sample, url, () -> {
+            ContentResponse response = send(conditional(newRequest(url), cached));
+            record("GET", url, response, response.getContent());
+            sample.setStatus(response.getStatus());
+            sample.setBytes(response.getContent().length);
+            if (cached != null && response.getStatus() == 304) {
+                byte[] content = responseCache.revalidated(cached);
+                if (content == null) {
+                    return null;
+                }
+                sample.setCache(FetchTimings.CACHE_HIT);
+                return new Body(content, cached.encoding());
+            }
+            checkStatus(url, response);
+            if (responseCache != null) {
+                sample.setCache(FetchTimings.CACHE_MISS);
+                responseCache.put(
+                        url,
+                        response.getHeaders().get(HttpHeader.ETAG),
+                        response.getHeaders().get(HttpHeader.LAST_MODIFIED),
+                        response.getEncoding(),
+                        response.getContent());
+            }
+            return new Body(response.getContent(), response.getEncoding());
+        });
+    }
+
+    /**
+     * Cache in use: recorded or replayed exchanges must hit the network.
+     */
+    private ResponseCache activeCache() {
+        return (recording == null && standIn == null) ? cache : null;
+    }
+
+    /**
+     * Add validators of cached content to the request, if any.
+     */
+    private static Request conditional(Request request, ResponseCache.Entry cached) {
+        if (cached != null) {
+            request.headers(httpFields -> {
+                if (cached.etag() != null) {
+                    httpFields.put(HttpHeader.IF_NONE_MATCH, cached.etag());
+                }
+                if (cached.lastModified() != null) {
+                    httpFields.put(HttpHeader.IF_MODIFIED_SINCE, cached.lastModified());
+                }
+            });
+        }
+        return request;
+    }
+
+    @FunctionalInterface
+    private interface Call<T> {
+        T call() throws IOException;
+    }
+
+    /**
+     * Call, retrying transient failures as defined by {@link RetryPolicy}, and record the timing sample.
+     */
+    private <T> T retrying(FetchTimings.Sample sample, String url, Call<T> call) throws IOException {
+        T result = attempts(sample, url, call);
+        sample.end(null);
+        return result;
+    }
+
+    /**
+     * Call, retrying transient failures as defined by {@link RetryPolicy}. The timing sample is ended on failure
+     * only: on success, the caller ends it once the content is read.
+     */
+    private <T> T attempts(FetchTimings.Sample sample, String url, Call<T> call) throws IOException {
+        for (int i = 1; ; i++) {
+            try {
+                return call.call();
+            } catch (IOException ioe) {
+                if (i >= retryPolicy.getMaxAttempts() || !retryPolicy.isRetryable(ioe)) {
+                    sample.end(ioe);
+                    throw ioe;
+                }
+                sample.retry();
+                long delay = retryPolicy.delayMillis(i, ioe);
+                LOG.warn(
+                        "IOException try {} while reading {}: {} {}, retrying in {} ms",
+                        i,
+                        url,
+                        ioe.getClass(),
+                        ioe.getMessage(),
+                        delay);
+
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    InterruptedIOException iioe =
+                            new InterruptedIOException("Interrupted while waiting to retry " + url);
+                    sample.end(iioe);
+                    throw iioe;
+                }
+            }
+        }
+    }
+
+    /**
+     * Check response status, holding further requests to the host when it asks to slow down.
+     */
+    private void checkStatus(String url, Response response) throws HttpStatusException {
+        int status = response.getStatus();
+        if (status >= 200 && status < 400) {
+            return;
+        }
+        Duration retryAfter = RetryPolicy.parseRetryAfter(response.getHeaders().get(HttpHeader.RETRY_AFTER));
+        if (retryAfter != null && (status == 429 || status == 503)) {
+            rateLimiter.pause(response.getRequest().getHost(), retryAfter);
+        }
+        throw new HttpStatusException(status, url, retryAfter);
+    }
+
+    @FunctionalInterface
+    private interface Exchange<R extends Response> {
+        R send(Request request) throws ExecutionException, InterruptedException, TimeoutException;
+    }
+
+    private ContentResponse send(Request request) throws IOException {
+        return send(request, r -> new CompletableResponseListener(r, MAX_CONTENT_LENGTH)
+                .send()
+                .get());
+    }
+
+    /**
+     * Send the request through the circuit breaker and the rate limiter of its host.
+     */
+    private <R extends Response> R send(Request request, Exchange<R> exchange) throws IOException {
+        String host = request.getHost();
+        circuitBreaker.check(host, request.getURI().toString());
+        boolean outcome = false;
+        try {
+            rateLimiter.acquire(host);
+            R response = exchange.send(request);
+            outcome = true;
+            circuitBreaker.onResponse(host, response.getStatus());
+            return response;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            IOException ioe = (cause instanceof IOException io) ? io : new IOException(cause.getMessage(), cause);
+            outcome = true;
+            circuitBreaker.onFailure(host, ioe);
+            throw ioe;
+        } catch (TimeoutException e) {
+            request.abort(e);
+            IOException ioe = new IOException("Timeout while reading " + request.getURI(), e);
+            outcome = true;
+            circuitBreaker.onFailure(host, ioe);
+            throw ioe;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.abort(e);
+            throw new InterruptedIOException("Interrupted while reading " + request.getURI());
+        } finally {
+            if (!outcome) {
+                // interrupted: don't keep the probe slot of a half-open circuit
+                circuitBreaker.onAbandon(host);
+            }
+        }
+    }
+
+    /**
+     * GET url content as text.
+     *
+     * @param url the url
+     * @return the content, decoded with the charset of the response
+     * @throws IOException if the content cannot be fetched
+     */
+    public String getString(String url) throws IOException {
+        Body body = get(url);
+        return new String(body.content(), body.encoding() != null ? body.encoding() : "UTF-8");
+    }
+
+    /**
+     * GET url content as a stream, read as it arrives: transient failures are retried until the response headers,
+     * and closing the stream before its end aborts the download. Content is stored in the cache and the recording
+     * only once read to its end.
+     *
+     * @param url the url
+     * @return the content, to be closed
+     * @throws IOException if the content cannot be fetched
+     */
+    public InputStream openStream(String url) throws IOException {
+        return open(url).in();
+    }
+
+    /**
+     * GET url content as a character stream, read as it arrives like {@link #openStream(String)}, decoded with the
+     * charset of the response, or UTF-8 if none.
+     *
+     * @param url the url
+     * @return the content, to be closed
+     * @throws IOException if the content cannot be fetched
+     */
+    public Reader openReader(String url) throws IOException {
+        ContentStream stream = open(url);
+        Charset charset = StandardCharsets.UTF_8;
+        if (stream.encoding() != null) {
+            try {
+                charset = Charset.forName(stream.encoding());
+            } catch (IllegalArgumentException e) {
+                LOG.debug("Unsupported charset {} of {}, decoding as UTF-8", stream.encoding(), url);
+            }
+        }
+        return new InputStreamReader(stream.in(), charset);
+    }
+
+    private ContentStream open(String url) throws IOException {
+        ResponseCache responseCache = activeCache();
+        ResponseCache.Entry cached = responseCache != null ? responseCache.get(url) : null;
+        ContentStream stream = open(url, responseCache, cached);
+        if (stream == null) {
+            // cached content evicted since the conditional request: fetch again without validators
+            stream = open(url, responseCache, null);
+        }
+        return stream;
+    }
+
+    /**
+     * GET url content as a stream, revalidating the given cached content if any.
+     *
+     * @return the content, to be closed, or <code>null</code> if the cached content was evicted
+     */
+    private ContentStream open(String url, ResponseCache responseCache, ResponseCache.Entry cached)
+            throws IOException {
+        FetchTimings.Sample sample = timings.start("GET", hostOf(url), url);
+        return attempts(sample, url, () -> {
+            InputStreamResponseListener listener = new InputStreamResponseListener();
+            Response response = send(conditional(newRequest(url), cached), r -> {
+                r.send(listener);
+                return listener.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            });
+            sample.setStatus(response.getStatus());
+            if (response.getStatus() >= 200 && response.getStatus() < 300) {
+                return new ContentStream(
+                        new BodyStream(url, response, listener.getInputStream(), responseCache, sample),
+                        encodingOf(response));
+            }
+            byte[] content;
+            try (InputStream in = listener.getInputStream()) {
+                content = in.readAllBytes();
+            }
+            record("GET", url, response, content);
+            sample.setBytes(content.length);
+            String encoding = encodingOf(response);
+            if (cached != null && response.getStatus() == 304) {
+                content = responseCache.revalidated(cached);
+                if (content == null) {
+                    sample.end(null);
+                    return null;
+                }
+                sample.setCache(FetchTimings.CACHE_HIT);
+                encoding = cached.encoding();
+            } else {
+                checkStatus(url, response);
+            }
+            sample.end(null);
+            return new ContentStream(new ByteArrayInputStream(content), encoding);
+        });
+    }
+
+    /**
+     * Charset of a response, from its <code>Content-Type</code> header.
+     */
+    private static String encodingOf(Response response) {
+        return MimeTypes.getCharsetFromContentType(response.getHeaders().get(HttpHeader.CONTENT_TYPE));
+    }
+
+    /**
+     * Body of a successful response, stored in the cache and the recording when read to its end, the timing sample
+     * being ended when closed.
+     */
+    private final class BodyStream extends InputStream {
+        private final String url;
+
+        private final Response response;
+
+        private final InputStream in;
+
+        private final ResponseCache responseCache;
+
+        private final FetchTimings.Sample sample;
+
+        private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        private boolean eof;
+
+        private IOException failure;
+
+        private boolean closed;
+
+        BodyStream(
+                String url,
+                Response response,
+                InputStream in,
+                ResponseCache responseCache,
+                FetchTimings.Sample sample) {
+            this.url = url;
+            this.response = response;
+            this.in = in;
+            this.responseCache = responseCache;
+            this.sample = sample;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            int n = read(b, 0, 1);
+            return n < 0 ? -1 : b[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n;
+            try {
+                n = in.read(b, off, len);
+            } catch (IOException ioe) {
+                failure = ioe;
+                throw ioe;
+            }
+            if (n < 0) {
+                complete();
+            } else {
+                content.write(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return in.available();
+        }
+
+        private void complete() {
+            if (!eof) {
+                eof = true;
+                byte[] bytes = content.toByteArray();
+                record("GET", url, response, bytes);
+                if (responseCache != null) {
+                    sample.setCache(FetchTimings.CACHE_MISS);
+                    responseCache.put(
+                            url,
+                            response.getHeaders().get(HttpHeader.ETAG),
+                            response.getHeaders().get(HttpHeader.LAST_MODIFIED),
+                            encodingOf(response),
+                            bytes);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                closed = true;
+                // aborts the response if not read to its end
+                in.close();
+                sample.setBytes(content.size());
+                sample.end(failure);
+            }
+        }
+    }
+
+    /**
+     * GET and parse an HTML page.
+     *
+     * @param url the url
+     * @return the parsed document
+     * @throws IOException if the content cannot be fetched
+     */
+    public Document getDocument(String url) throws IOException {
+        Body body = get(url);
+        return Jsoup.parse(new ByteArrayInputStream(body.content()), body.encoding(), url);
+    }
+
+    /**
+     * GET and parse a JSON document.
+     *
+     * @param url the url
+     * @return the parsed JSON, or <code>null</code> if there is no content
+     * @throws IOException if the content cannot be fetched
+     */
+    public JsonNode getJson(String url) throws IOException {
+        return getJson(url, JsonNode.class);
+    }
+
+    /**
+     * GET a JSON document and decode the properties of a projection, skipping others.
+     *
+     * @param url the url
+     * @param type the projection: a record or class with the properties to keep
+     * @param <T> the projection type
+     * @return the decoded JSON, or <code>null</code> if there is no content
+     * @throws IOException if the content cannot be fetched or decoded
+     */
+    public <T> T getJson(String url, Class<T> type) throws IOException {
+        byte[] content = get(url).content();
+        JsonStreamDecoder<T> decoder = new JsonStreamDecoder<>(OBJECT_MAPPER, type);
+        decoder.feed(content, 0, content.length);
+        return decoder.finish();
+    }
+
+    /**
+     * Asynchronously GET and parse a JSON document, retrying transient failures as defined by {@link RetryPolicy}.
+     *
+     * @param url the url
+     * @return the parsed JSON
+     */
+    public Mono<JsonNode> getJsonAsync(String url) {
+        return getJsonAsync(url, JsonNode.class);
+    }
+
+    /**
+     * Asynchronously GET a JSON document and decode the properties of a projection, retrying transient failures as
+     * defined by {@link RetryPolicy}. Content is tokenized as it arrives, and only the tokens of the properties of the
+     * projection are buffered until the document is complete.
+     *
+     * @param url the url
+     * @param type the projection: a record or class with the properties to keep
+     * @param <T> the projection type
+     * @return the decoded JSON, empty if there is no content
+     */
+    public <T> Mono<T> getJsonAsync(String url, Class<T> type) {
+        // sample is started at assembly, by the thread attributed to the artifact
+        FetchTimings.Sample sample = timings.start("GET", hostOf(url), url);
+        return Mono.defer(() -> decodeAsync(url, type, sample))
+                .retryWhen(Retry.from(signals -> signals.concatMap(signal -> {
+                    Throwable failure = signal.failure();
+                    int attempt = (int) signal.totalRetries() + 1;
+                    if (attempt >= retryPolicy.getMaxAttempts() || !retryPolicy.isRetryable(failure)) {
+                        return Mono.error(failure);
+                    }
+                    sample.retry();
+                    long delay = retryPolicy.delayMillis(attempt, failure);
+                    LOG.warn(
+                            "IOException try {} while reading {}: {} {}, retrying in {} ms",
+                            attempt,
+                            url,
+                            failure.getClass(),
+                            failure.getMessage(),
+                            delay);
+                    return Mono.delay(Duration.ofMillis(delay));
+                })))
+                .doOnSuccess(json -> sample.end(null))
+                .doOnError(sample::end);
+    }
+
+    private <T> Mono<T> decodeAsync(String url, Class<T> type, FetchTimings.Sample sample) {
+        Request request = newRequest(url).headers(httpFields -> httpFields.put(HttpHeader.ACCEPT, "application/json"));
+        String host = request.getHost();
+        try {
+            circuitBreaker.check(host, url);
+        } catch (HostUnavailableException hue) {
+            return Mono.error(hue);
+        }
+        Mono<T> content = Mono.create(sink -> {
+            JsonStreamDecoder<T> decoder;
+            try {
+                decoder = new JsonStreamDecoder<>(OBJECT_MAPPER, type);
+            } catch (IOException e) {
+                sink.error(e);
+                return;
+            }
+            // raw bytes are only kept when recording
+            ByteArrayOutputStream recorded = recording != null ? new ByteArrayOutputStream() : null;
+            IOException[] decodeFailure = new IOException[1];
+            AtomicBoolean cancelled = new AtomicBoolean();
+            sink.onCancel(() -> {
+                cancelled.set(true);
+                request.abort(new CancellationException("Cancelled reading " + url));
+            });
+            request.onResponseContent((response, chunk) -> {
+                        int status = response.getStatus();
+                        if (status < 200 || status >= 400 || decodeFailure[0] != null) {
+                            return;
+                        }
+                        // the buffer is only valid during the call
+                        byte[] bytes = new byte[chunk.remaining()];
+                        chunk.get(bytes);
+                        if (recorded != null) {
+                            recorded.writeBytes(bytes);
+                        }
+                        try {
+                            decoder.feed(bytes, 0, bytes.length);
+                        } catch (IOException e) {
+                            decodeFailure[0] = e;
+                            response.abort(e);
+                        }
+                    })
+                    .send(result -> {
+                        if (cancelled.get()) {
+                            // probe slot, if any, is released on cancel
+                            return;
+                        }
+                        Response response = result.getResponse();
+                        if (decodeFailure[0] != null) {
+                            // the host answered: only the content is invalid
+                            circuitBreaker.onResponse(host, response.getStatus());
+                            sink.error(decodeFailure[0]);
+                            return;
+                        }
+                        if (result.isFailed()) {
+                            Throwable failure = result.getFailure();
+                            IOException ioe = (failure instanceof IOException e)
+                                    ? e
+                                    : new IOException(failure.getMessage(), failure);
+                            circuitBreaker.onFailure(host, ioe);
+                            sink.error(ioe);
+                            return;
+                        }
+                        circuitBreaker.onResponse(host, response.getStatus());
+                        sample.setStatus(response.getStatus());
+                        try {
+                            checkStatus(url, response);
+                            sample.setBytes(decoder.getBytes());
+                            record("GET", url, response, recorded != null ? recorded.toByteArray() : new byte[0]);
+                            T json = decoder.finish();
+                            if (json != null) {
+                                sink.success(json);
+                            } else {
+                                sink.success();
+                            }
+                        } catch (HttpStatusException hse) {
+                            record("GET", url, response, new byte[0]);
+                            sink.error(hse);
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                    });
+        });
+        long wait = rateLimiter.reserve(host);
+        return (wait > 0 ? Mono.delay(Duration.ofNanos(wait)).then(content) : content)
+                // cancelled before an outcome: don't keep the probe slot of a half-open circuit
+                .doOnCancel(() -> circuitBreaker.onAbandon(host));
+    }
+
+    /**
+     * Send a HEAD request.
+     *
+     * @param url the url
+     * @return the HTTP status code
+     * @throws IOException if the request fails
+     */
+    public int head(String url) throws IOException {
+        FetchTimings.Sample sample = timings.start("HEAD", hostOf(url), url);
+        try {
+            ContentResponse response = send(newRequest(url).method(HttpMethod.HEAD));
+            record("HEAD", url, response, new byte[0]);
+            int status = response.getStatus();
+            sample.setStatus(status);
+            sample.end(null);
+            return status;
+        } catch (IOException ioe) {
+            sample.end(ioe);
+            throw ioe;
+        }
+    }
+
+    /**
+     * HEAD url, to check that a resource exists without downloading it, retrying transient failures as defined by
+     * {@link RetryPolicy}.
+     *
+     * @param url the url
+     * @return the status, size and date of the resource: <code>404</code> and <code>410</code> statuses are results,
+     *         not failures
+     * @throws IOException if the request fails
+     */
+    public ResourceInfo probe(String url) throws IOException {
+        FetchTimings.Sample sample = timings.start("HEAD", hostOf(url), url);
+        return retrying(sample, url, () -> {
+            ContentResponse response = send(newRequest(url).method(HttpMethod.HEAD));
+            record("HEAD", url, response, new byte[0]);
+            int status = response.getStatus();
+            sample.setStatus(status);
+            if (status != 404 && status != 410) {
+                checkStatus(url, response);
+            }
+            return new ResourceInfo(
+                    url,
+                    status,
+                    response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH),
+                    response.getHeaders().get(HttpHeader.LAST_MODIFIED));
+        });
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Decode a JSON document fed chunk by chunk, as response content arrives: a non-blocking Jackson parser tokenizes each
+ * chunk immediately, and only the tokens of the properties declared by the requested type are buffered, then bound
+ * once the document is complete. The body is never held as text, and other properties are skipped with their values
+ * while tokenizing.
+ * <p>
+ * Jackson's <code>FilteringParserDelegate</code> cannot wrap a non-blocking parser, as skipping children would spin on
+ * <code>NOT_AVAILABLE</code> tokens: the {@link TokenFilter} of the type is applied token by token instead.
+ *
+ * @param <T> the decoded type: a record or class with the properties to keep, or <code>JsonNode</code> for a tree
+ */
+class JsonStreamDecoder<T> {
+    private final ObjectReader reader;
+
+    private final JsonParser parser;
+
+    private final ByteArrayFeeder feeder;
+
+    private final TokenBuffer tokens;
+
+    private final TokenFilter filter;
+
+    /**
+     * Filters of the buffered objects and arrays enclosing the current token.
+     */
+    private final Deque<TokenFilter> containers = new ArrayDeque<>();
+
+    /**
+     * Filter of the value following the current property name.
+     */
+    private TokenFilter valueFilter;
+
+    private boolean skipValue;
+
+    private int skipDepth;
+
+    private long bytes;
+
+    private long bufferedTokens;
+
+    /**
+     * <p>Constructor for JsonStreamDecoder.</p>
+     *
+     * @param mapper the object mapper
+     * @param type the decoded type
+     * @throws IOException if the parser cannot be created
+     */
+    JsonStreamDecoder(ObjectMapper mapper, Class<T> type) throws IOException {
+        this.reader = mapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.parser = mapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.tokens = new TokenBuffer(parser);
+        this.filter = ProjectionFilter.of(mapper.getDeserializationConfig(), mapper.constructType(type));
+    }
+
+    /**
+     * Tokenize a chunk of content.
+     *
+     * @param chunk the chunk, must not be modified afterwards
+     * @param offset the start offset in chunk
+     * @param length the chunk length
+     * @throws IOException if the content is not valid JSON
+     */
+    void feed(byte[] chunk, int offset, int length) throws IOException {
+        bytes += length;
+        feeder.feedInput(chunk, offset, offset + length);
+        drain();
+    }
+
+    /**
+     * <p>Getter for the field <code>bytes</code>.</p>
+     *
+     * @return the count of bytes fed
+     */
+    long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * <p>Getter for the field <code>bufferedTokens</code>.</p>
+     *
+     * @return the count of tokens kept to be bound
+     */
+    long getBufferedTokens() {
+        return bufferedTokens;
+    }
+
+    /**
+     * End of content: bind the document.
+     *
+     * @return the decoded document, or <code>null</code> if there was no content
+     * @throws IOException if the content is truncated or does not match the type
+     */
+    T finish() throws IOException {
+        feeder.endOfInput();
+        drain();
+        parser.close();
+        if (tokens.firstToken() == null) {
+            return null;
+        }
+        try (JsonParser buffered = tokens.asParser()) {
+            return reader.readValue(buffered);
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (skipDepth > 0) {
+                if (token.isStructStart()) {
+                    skipDepth++;
+                } else if (token.isStructEnd()) {
+                    skipDepth--;
+                }
+                continue;
+            }
+            if (skipValue) {
+                // value of a skipped property: a scalar, or the start of a structure
+                skipValue = false;
+                if (token.isStructStart()) {
+                    skipDepth = 1;
+                }
+                continue;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                valueFilter = containers.peek().includeProperty(parser.currentName());
+                if (valueFilter == null) {
+                    skipValue = true;
+                    continue;
+                }
+            } else if (token.isStructStart()) {
+                TokenFilter container = containerFilter();
+                if (container == null) {
+                    skipDepth = 1;
+                    continue;
+                }
+                containers.push(container);
+            } else if (token.isStructEnd()) {
+                containers.pop();
+            }
+            tokens.copyCurrentEvent(parser);
+            bufferedTokens++;
+        }
+    }
+
+    /**
+     * Filter of the object or array just started, from its enclosing context.
+     */
+    private TokenFilter containerFilter() {
+        // the parsing context is already the one of the started structure
+        JsonStreamContext parent = parser.getParsingContext().getParent();
+        if (parent.inRoot()) {
+            return filter;
+        }
+        if (parent.inArray()) {
+            return containers.peek().includeElement(parent.getCurrentIndex());
+        }
+        return valueFilter;
+    }
+
+    /**
+     * Filter keeping the properties a type declares, recursively through beans, arrays and collections. Maps, trees
+     * and types decoding any property are kept whole.
+     */
+    static final class ProjectionFilter extends TokenFilter {
+        private final DeserializationConfig config;
+
+        private final JavaType elementType;
+
+        private final Map<String, JavaType> properties;
+
+        private ProjectionFilter(DeserializationConfig config, JavaType elementType, Map<String, JavaType> properties) {
+            this.config = config;
+            this.elementType = elementType;
+            this.properties = properties;
+        }
+
+        /**
+         * Filter of a type.
+         *
+         * @param config the deserialization configuration
+         * @param type the type
+         * @return the filter keeping what the type declares
+         */
+        static TokenFilter of(DeserializationConfig config, JavaType type) {
+            if (type.isArrayType() || type.isCollectionLikeType()) {
+                return new ProjectionFilter(config, type.getContentType(), null);
+            }
+            if (type.isMapLikeType()
+                    || type.isPrimitive()
+                    || type.isEnumType()
+                    || type.isJavaLangObject()
+                    || type.isTypeOrSubTypeOf(JsonNode.class)
+                    || type.getRawClass().getName().startsWith("java.")) {
+                return TokenFilter.INCLUDE_ALL;
+            }
+            BeanDescription description = config.introspect(type);
+            if (description.findAnySetterAccessor() != null) {
+                return TokenFilter.INCLUDE_ALL;
+            }
+            Map<String, JavaType> properties = new HashMap<>();
+            for (BeanPropertyDefinition property : description.findProperties()) {
+                properties.put(property.getName(), property.getPrimaryType());
+                List<PropertyName> aliases = property.getPrimaryMember() == null
+                        ? null
+                        : config.getAnnotationIntrospector().findPropertyAliases(property.getPrimaryMember());
+                if (aliases != null) {
+                    for (PropertyName alias : aliases) {
+                        properties.put(alias.getSimpleName(), property.getPrimaryType());
+                    }
+                }
+            }
+            return new ProjectionFilter(config, null, properties);
+        }
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            if (properties == null) {
+                return TokenFilter.INCLUDE_ALL;
+            }
+            JavaType type = properties.get(name);
+            return type == null ? null : of(config, type);
+        }
+
+        @Override
+        public TokenFilter includeElement(int index) {
+            return elementType == null ? TokenFilter.INCLUDE_ALL : of(config, elementType);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stand-in server replaying the exchanges of an {@link ExchangeArchive}, for fully offline runs.
+ * Requests that were not recorded get a <code>404</code> response.
+ */
+public class ReplayServer extends StandInServer {
+    private static final Logger LOG = LoggerFactory.getLogger(ReplayServer.class);
+
+    /** Method of recorded <code>git ls-remote</code> exchanges. */
+    public static final String GIT = "GIT";
+
+    private final ExchangeArchive archive;
+
+    /**
+     * <p>Constructor for ReplayServer.</p>
+     *
+     * @param archive the recorded exchanges
+     * @param port the port to listen to on localhost, or <code>0</code> for any free port
+     */
+    public ReplayServer(ExchangeArchive archive, int port) {
+        super(port);
+        this.archive = archive;
+    }
+
+    /**
+     * <p>Getter for the field <code>archive</code>.</p>
+     *
+     * @return the recorded exchanges
+     */
+    public ExchangeArchive getArchive() {
+        return archive;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void serve(String method, String url, Request request, Response response, Callback callback)
+            throws IOException {
+        boolean head = "HEAD".equals(method);
+        ExchangeArchive.Exchange exchange = archive.get(method, url);
+        if (exchange == null && head) {
+            // HEAD answered from recorded GET
+            exchange = archive.get("GET", url);
+        }
+        if (exchange == null) {
+            LOG.warn("Not recorded: {} {}", method, url);
+            Response.writeError(request, response, callback, 404);
+            return;
+        }
+
+        byte[] content = exchange.content();
+        response.setStatus(exchange.status());
+        for (Map.Entry<String, String> header : exchange.headers().entrySet()) {
+            // content is recorded decoded: recorded length may be the compressed one
+            if (!HttpHeader.CONTENT_LENGTH.is(header.getKey()) || "HEAD".equals(exchange.method())) {
+                response.getHeaders().put(header.getKey(), header.getValue());
+            }
+        }
+        if (head) {
+            if (!response.getHeaders().contains(HttpHeader.CONTENT_LENGTH)) {
+                response.getHeaders().put(HttpHeader.CONTENT_LENGTH, content.length);
+            }
+            response.write(true, BufferUtil.EMPTY_BUFFER, callback);
+        } else {
+            response.getHeaders().put(HttpHeader.CONTENT_LENGTH, content.length);
+            response.write(true, ByteBuffer.wrap(content), callback);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<String> lsRemote(String remote) throws IOException {
+        ExchangeArchive.Exchange exchange = archive.get(GIT, remote);
+        if (exchange == null) {
+            throw new FileNotFoundException("Not recorded: git ls-remote " + remote);
+        }
+        String branches = new String(exchange.content(), StandardCharsets.UTF_8);
+        return branches.isEmpty() ? List.of() : List.of(branches.split("\n"));
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+/**
+ * Result of a <code>HEAD</code> request: whether a resource exists, with its size and date when the server sends them.
+ *
+ * @param url the resource url
+ * @param status the response status
+ * @param contentLength the <code>Content-Length</code> header, or <code>-1</code> if absent
+ * @param lastModified the <code>Last-Modified</code> header, or <code>null</code> if absent
+ */
+public record ResourceInfo(String url, int status, long contentLength, String lastModified) {
+    /**
+     * <p>exists.</p>
+     *
+     * @return <code>true</code> if the status is successful
+     */
+    public boolean exists() {
+        return status >= 200 && status < 300;
+    }
+}
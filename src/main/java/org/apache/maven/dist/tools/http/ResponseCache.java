@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * On-disk cache of HTTP responses, revalidated with <code>If-None-Match</code>/<code>If-Modified-Since</code>:
+ * an unchanged resource then costs a <code>304</code> response without body.
+ * <p>
+ * Each entry is stored as 2 files named after the SHA-256 of the url: <code>.body</code> with the content, and
+ * <code>.properties</code> with url, validators and encoding. Body modification time records last access, to evict
+ * least recently used entries when total size exceeds the bound.
+ */
+public class ResponseCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ResponseCache.class);
+
+    private static final String BODY = ".body";
+
+    private static final String PROPERTIES = ".properties";
+
+    /**
+     * A cached response.
+     *
+     * @param url the url
+     * @param etag the <code>ETag</code> header, or <code>null</code>
+     * @param lastModified the <code>Last-Modified</code> header, or <code>null</code>
+     * @param encoding the content encoding, or <code>null</code>
+     * @param body the body file
+     */
+    public record Entry(String url, String etag, String lastModified, String encoding, Path body) {
+        /**
+         * Read cached content.
+         *
+         * @return the cached content
+         * @throws IOException if the body cannot be read
+         */
+        public byte[] content() throws IOException {
+            return Files.readAllBytes(body);
+        }
+    }
+
+    private final Path directory;
+
+    private final long maxSize;
+
+    private final boolean refresh;
+
+    /** Keys stored or revalidated since this cache was opened. */
+    private final Set<String> fresh = new HashSet<>();
+
+    /** Cached entries sizes, by key, in access order. */
+    private final LinkedHashMap<String, Long> sizes = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long totalSize;
+
+    /**
+     * Open a cache directory, creating it if necessary.
+     *
+     * @param directory the cache directory
+     * @param maxSize maximum total size of cached bodies, in bytes
+     * @param refresh <code>true</code> to ignore entries stored before this cache was opened
+     * @throws IOException if the directory cannot be read
+     */
+    public ResponseCache(Path directory, long maxSize, boolean refresh) throws IOException {
+        this.directory = directory;
+        this.maxSize = maxSize;
+        this.refresh = refresh;
+
+        Files.createDirectories(directory);
+        List<Path> bodies;
+        try (Stream<Path> files = Files.list(directory)) {
+            bodies = files.filter(p -> p.getFileName().toString().endsWith(BODY))
+                    .sorted(Comparator.comparing(ResponseCache::lastModifiedTime))
+                    .toList();
+        }
+        for (Path body : bodies) {
+            String name = body.getFileName().toString();
+            sizes.put(name.substring(0, name.length() - BODY.length()), Files.size(body));
+            totalSize += Files.size(body);
+        }
+        LOG.info("HTTP cache {}: {} entries, {} bytes", directory, sizes.size(), totalSize);
+    }
+
+    /**
+     * <p>Getter for the field <code>directory</code>.</p>
+     *
+     * @return the cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Find cached response for an url.
+     *
+     * @param url the url
+     * @return the cached entry, or <code>null</code> if there is none or it must be refreshed
+     */
+    public Entry get(String url) {
+        String key = key(url);
+        synchronized (this) {
+            if (sizes.get(key) == null || (refresh && !fresh.contains(key))) {
+                return null;
+            }
+        }
+        Path body = directory.resolve(key + BODY);
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(directory.resolve(key + PROPERTIES))) {
+            properties.load(in);
+            if (!url.equals(properties.getProperty("url"))) {
+                return null;
+            }
+        } catch (IOException e) {
+            LOG.debug("Ignoring unreadable HTTP cache entry for {}", url, e);
+            return null;
+        }
+        return new Entry(
+                url,
+                properties.getProperty("etag"),
+                properties.getProperty("lastModified"),
+                properties.getProperty("encoding"),
+                body);
+    }
+
+    /**
+     * Record that a cached entry was revalidated by the server and used.
+     *
+     * @param entry the cached entry
+     */
+    public void touch(Entry entry) {
+        synchronized (this) {
+            String key = key(entry.url());
+            sizes.get(key);
+            fresh.add(key);
+        }
+        try {
+            Files.setLastModifiedTime(entry.body(), FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            LOG.debug("Cannot touch HTTP cache entry for {}", entry.url(), e);
+        }
+    }
+
+    /**
+     * Read an entry revalidated by the server, recording that it was used.
+     *
+     * @param entry the cached entry
+     * @return the cached content, or <code>null</code> if the entry was evicted since it was found
+     */
+    public byte[] revalidated(Entry entry) {
+        synchronized (this) {
+            if (!sizes.containsKey(key(entry.url()))) {
+                return null;
+            }
+        }
+        touch(entry);
+        try {
+            return entry.content();
+        } catch (IOException e) {
+            LOG.debug("HTTP cache entry for {} evicted since revalidation", entry.url(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Store a response, if it has validators to revalidate it later.
+     *
+     * @param url the url
+     * @param etag the <code>ETag</code> header, or <code>null</code>
+     * @param lastModified the <code>Last-Modified</code> header, or <code>null</code>
+     * @param encoding the content encoding, or <code>null</code>
+     * @param content the response content
+     */
+    public void put(String url, String etag, String lastModified, String encoding, byte[] content) {
+        if ((etag == null && lastModified == null) || content.length > maxSize) {
+            return;
+        }
+        String key = key(url);
+        Properties properties = new Properties();
+        properties.setProperty("url", url);
+        if (etag != null) {
+            properties.setProperty("etag", etag);
+        }
+        if (lastModified != null) {
+            properties.setProperty("lastModified", lastModified);
+        }
+        if (encoding != null) {
+            properties.setProperty("encoding", encoding);
+        }
+
+        // files are written and evicted under the lock, so that an entry is never deleted while stored
+        synchronized (this) {
+            try {
+                ByteArrayOutputStream metadata = new ByteArrayOutputStream();
+                properties.store(metadata, null);
+                write(key + BODY, content);
+                write(key + PROPERTIES, metadata.toByteArray());
+            } catch (IOException e) {
+                LOG.warn("Cannot store HTTP cache entry for {}: {}", url, e.getMessage());
+                return;
+            }
+
+            fresh.add(key);
+            Long previous = sizes.put(key, (long) content.length);
+            totalSize += content.length - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> eldest = sizes.entrySet().iterator();
+            while (totalSize > maxSize && eldest.hasNext()) {
+                Map.Entry<String, Long> e = eldest.next();
+                if (!e.getKey().equals(key)) {
+                    totalSize -= e.getValue();
+                    fresh.remove(e.getKey());
+                    eldest.remove();
+                    evict(e.getKey());
+                }
+            }
+        }
+    }
+
+    private void evict(String key) {
+        try {
+            Files.deleteIfExists(directory.resolve(key + BODY));
+            Files.deleteIfExists(directory.resolve(key + PROPERTIES));
+        } catch (IOException ioe) {
+            LOG.debug("Cannot evict HTTP cache entry {}", key, ioe);
+        }
+    }
+
+    private void write(String name, byte[] content) throws IOException {
+        Path tmp = Files.createTempFile(directory, name, ".tmp");
+        Files.write(tmp, content);
+        Files.move(tmp, directory.resolve(name), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static FileTime lastModifiedTime(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String key(String url) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(url.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import javax.net.ssl.SSLHandshakeException;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * When and how long to wait before retrying a failed request: only failures that may succeed on retry are retried,
+ * after an exponential backoff with jitter, or after the delay requested by the server with <code>Retry-After</code>.
+ */
+public class RetryPolicy {
+    /** Status codes of transient server conditions. */
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(408, 429, 500, 502, 503, 504);
+
+    /** Default policy: 3 attempts, starting with 1 second backoff. */
+    public static final RetryPolicy DEFAULT = new RetryPolicy(3, Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+    private final int maxAttempts;
+
+    private final long baseDelayMillis;
+
+    private final long maxDelayMillis;
+
+    /**
+     * <p>Constructor for RetryPolicy.</p>
+     *
+     * @param maxAttempts maximum number of attempts, including the first one
+     * @param baseDelay backoff before first retry, doubled on each retry
+     * @param maxDelay maximum delay between attempts, also bounding <code>Retry-After</code>
+     */
+    public RetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelay.toMillis();
+        this.maxDelayMillis = maxDelay.toMillis();
+    }
+
+    /**
+     * <p>Getter for the field <code>maxAttempts</code>.</p>
+     *
+     * @return maximum number of attempts, including the first one
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Is the failure transient, ie can a retry succeed?
+     *
+     * @param failure the failure
+     * @return <code>true</code> for timeouts, connection failures and transient HTTP status codes
+     */
+    public boolean isRetryable(Throwable failure) {
+        if (failure instanceof HttpStatusException hse) {
+            return RETRYABLE_STATUS.contains(hse.getStatusCode());
+        }
+        if (failure instanceof HostUnavailableException) {
+            // circuit breaker is open: fail fast
+            return false;
+        }
+        if (failure instanceof InterruptedIOException && !(failure instanceof SocketTimeoutException)) {
+            // interrupted by the caller
+            return false;
+        }
+        // unknown host or invalid certificate won't be fixed in a few seconds
+        return failure instanceof IOException
+                && !(failure instanceof UnknownHostException)
+                && !(failure instanceof SSLHandshakeException);
+    }
+
+    /**
+     * Delay before next attempt.
+     *
+     * @param attempt the failed attempt number, starting at 1
+     * @param failure the failure
+     * @return the delay in milliseconds
+     */
+    public long delayMillis(int attempt, Throwable failure) {
+        if (failure instanceof HttpStatusException hse && hse.getRetryAfter() != null) {
+            return Math.min(Math.max(0, hse.getRetryAfter().toMillis()), maxDelayMillis);
+        }
+        // "equal jitter": half of the exponential backoff, plus random up to the other half
+        long backoff = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 20));
+        return backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    /**
+     * Parse a <code>Retry-After</code> header value, either delay in seconds or HTTP date.
+     *
+     * @param value the header value, may be <code>null</code>
+     * @return the delay, or <code>null</code> if absent or invalid
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException nfe) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Duration.between(ZonedDateTime.now(date.getZone()), date);
+            } catch (DateTimeParseException dtpe) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.util.Collection;
+
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+import org.eclipse.jetty.util.thread.QueuedThreadPool;
+
+/**
+ * Local server standing in for the whole ASF infrastructure: when {@link HttpTransport#redirectTo(StandInServer)
+ * redirected}, every request is sent to this server, with the original url encoded in the path, as
+ * <code>/stand-in/&lt;scheme&gt;/&lt;host&gt;/&lt;path&gt;</code>.
+ */
+public abstract class StandInServer implements AutoCloseable {
+    private static final String PREFIX = "/stand-in/";
+
+    private final Server server;
+
+    private final ServerConnector connector;
+
+    private String baseUrl;
+
+    /**
+     * <p>Constructor for StandInServer.</p>
+     *
+     * @param port the port to listen to on localhost, or <code>0</code> for any free port
+     */
+    protected StandInServer(int port) {
+        QueuedThreadPool threadPool = new QueuedThreadPool();
+        threadPool.setName("dist-tool-stand-in");
+        threadPool.setDaemon(true);
+        server = new Server(threadPool);
+        connector = new ServerConnector(server);
+        connector.setHost("localhost");
+        connector.setPort(port);
+        server.addConnector(connector);
+        server.setHandler(new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) throws Exception {
+                String url = original(request.getHttpURI().getPathQuery());
+                if (url == null) {
+                    Response.writeError(request, response, callback, 404);
+                } else {
+                    serve(request.getMethod(), url, request, response, callback);
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Start listening.
+     *
+     * @throws IOException if the server cannot start
+     */
+    public void start() throws IOException {
+        try {
+            server.start();
+        } catch (Exception e) {
+            throw new IOException("Cannot start stand-in server on port " + connector.getPort(), e);
+        }
+        baseUrl = "http://localhost:" + connector.getLocalPort();
+    }
+
+    /**
+     * <p>Getter for the field <code>baseUrl</code>.</p>
+     *
+     * @return the server url, once started
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Rewrite an url to target this server.
+     *
+     * @param url the original url
+     * @return the url on this server
+     */
+    public String rewrite(String url) {
+        int index = url.indexOf("://");
+        if (index < 0) {
+            return url;
+        }
+        return baseUrl + PREFIX + url.substring(0, index) + '/' + url.substring(index + 3);
+    }
+
+    /**
+     * Original url of a request to this server.
+     *
+     * @param pathQuery the path and query of the request
+     * @return the original url, or <code>null</code> if the path was not rewritten
+     */
+    static String original(String pathQuery) {
+        if (pathQuery == null || !pathQuery.startsWith(PREFIX)) {
+            return null;
+        }
+        String rest = pathQuery.substring(PREFIX.length());
+        int slash = rest.indexOf('/');
+        if (slash < 0) {
+            return null;
+        }
+        return rest.substring(0, slash) + "://" + rest.substring(slash + 1);
+    }
+
+    /**
+     * Serve a request.
+     *
+     * @param method the HTTP method
+     * @param url the original url
+     * @param request the request
+     * @param response the response
+     * @param callback the callback to complete once the response is written
+     * @throws Exception if the response cannot be written
+     */
+    protected abstract void serve(String method, String url, Request request, Response response, Callback callback)
+            throws Exception;
+
+    /**
+     * Branches of a Git remote repository, standing in for <code>git ls-remote</code>.
+     *
+     * @param remote the remote repository url
+     * @return the branch names
+     * @throws IOException if the branches are not available
+     */
+    public abstract Collection<String> lsRemote(String remote) throws IOException;
+
+    /**
+     * Stop listening.
+     *
+     * @throws IOException if the server cannot stop
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            server.stop();
+        } catch (Exception e) {
+            throw new IOException("Cannot stop stand-in server", e);
+        }
+    }
+}
@@ -22,24 +22,29 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.apache.maven.dist.tools.AbstractCheckResult;
 import org.apache.maven.dist.tools.AbstractDistCheckReport;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
-import org.apache.maven.dist.tools.JsoupRetry;
+import org.apache.maven.dist.tools.http.HostUnavailableException;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.reporting.MavenReportException;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 
 /**
  * Check index page for information about components.
@@ -47,7 +52,8 @@ import org.jsoup.select.Elements;
  * @author skygo
  */
 @Mojo(name = "check-index-page", requiresProject = false)
-public class DistCheckIndexPageReport extends AbstractDistCheckReport {
+public class DistCheckIndexPageReport
+        extends AbstractDistCheckReport<DistCheckIndexPageReport.CheckIndexPageResult> {
     /** Constant <code>FAILURES_FILENAME="check-index-page.log"</code> */
     public static final String FAILURES_FILENAME = "check-index-page.log";
 
@@ -71,6 +77,9 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
         INDEX_PAGES_REF = Collections.unmodifiableMap(aMap);
     }
 
+    /** Parsed index pages, by url. */
+    private final Map<String, IndexPageRows> indexPageRows = new ConcurrentHashMap<>();
+
     /**
      * Dist Check Index Page Report.
      */
@@ -106,7 +115,7 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
         return true;
     }
 
-    private static class CheckIndexPageResult extends AbstractCheckResult {
+    static class CheckIndexPageResult extends AbstractCheckResult {
 
         private String indexVersion;
         private String indexDate;
@@ -124,8 +133,6 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
         }
     }
 
-    private final Map<String, List<CheckIndexPageResult>> results = new HashMap<>();
-
     private void reportLine(Sink sink, CheckIndexPageResult cipr, boolean displayDate) {
         ConfigurationLineInfo cli = cipr.getConfigurationLine();
 
@@ -146,6 +153,13 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
 
         // index page column
         sink.tableCell();
+        if (cipr.getUnavailableHost() != null) {
+            iconError(sink);
+            sink.text("host unavailable: " + cipr.getUnavailableHost());
+            sink.tableCell_();
+            sink.tableRow_();
+            return;
+        }
         if (displayDate) {
             sink.rawText(cipr.indexDate);
             if ((cipr.indexDate != null) && isDateSimilar(cli.getReleaseDateFromMetadata(), cipr.indexDate)) {
@@ -162,12 +176,15 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
         } else {
             iconError(sink);
 
-            addErrorLine(
+            addFailure(
                     cli,
                     null,
                     null,
+                    "index-page",
+                    cli.getIndexPageUrl(),
                     cli.getArtifactId() + ": found " + cipr.indexVersion + " instead of " + cipr.getVersion() + " in "
-                            + cli.getIndexPageUrl());
+                            + cli.getIndexPageUrl(),
+                    List.of());
         }
         sink.tableCell_();
 
@@ -190,13 +207,17 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void check() throws MavenReportException {
         if (!outputDirectory.exists()) {
             outputDirectory.mkdirs();
         }
 
         prepareReportData();
+    }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void renderReport(Locale locale) throws MavenReportException {
         Sink sink = getSink();
         sink.head();
         sink.title();
@@ -212,7 +233,15 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
         sink.paragraph_();
         sink.section1_();
 
-        for (Map.Entry<String, List<CheckIndexPageResult>> result : results.entrySet()) {
+        // group results by index page, in configuration order
+        Map<String, List<CheckIndexPageResult>> resultsByIndexPage = new LinkedHashMap<>();
+        for (CheckIndexPageResult result : results) {
+            resultsByIndexPage
+                    .computeIfAbsent(result.getConfigurationLine().getIndexPageUrl(), k -> new ArrayList<>())
+                    .add(result);
+        }
+
+        for (Map.Entry<String, List<CheckIndexPageResult>> result : resultsByIndexPage.entrySet()) {
             String indexPageId = result.getKey();
             IndexPage indexPage = INDEX_PAGES_REF.get(indexPageId);
             List<CheckIndexPageResult> indexPageResults = result.getValue();
@@ -257,56 +286,102 @@ public class DistCheckIndexPageReport extends AbstractDistCheckReport {
         sink.body_();
         sink.flush();
         sink.close();
+
+        // failures found while rendering
+        flushFailures();
     }
 
-    private void updateIndexPageInfo(ConfigurationLineInfo cli, CheckIndexPageResult r, IndexPage indexPage)
-            throws IOException {
-        Document doc = indexPage.document;
-        if (doc == null) {
-            // document not yet downloaded: download and cache
-            doc = JsoupRetry.get(indexPage.url);
-            indexPage.document = doc;
+    /**
+     * Fetch and parse the index pages of the artifacts concurrently.
+     */
+    @Override
+    protected void prefetch(List<ConfigurationLineInfo> lines) throws MavenReportException {
+        Set<String> urls = new LinkedHashSet<>();
+        for (ConfigurationLineInfo line : lines) {
+            if (line.getIndexPageUrl() != null) {
+                urls.add(line.getIndexPageUrl());
+            }
         }
 
-        // Maven parent POM is now a special case in https://maven.apache.org/pom/
-        boolean isMavenParentPoms = ("maven-parent".equals(cli.getArtifactId()));
-
-        Elements a = isMavenParentPoms ? doc.select("tr > th > b") : doc.select("tr > td > a[href]:not(.externalLink)");
+        Map<String, Future<IndexPageRows>> futures = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("dist-tool-index-", 0).factory())) {
+            for (String url : urls) {
+                IndexPage indexPage = INDEX_PAGES_REF.get(url);
+                futures.put(
+                        url, executor.submit(() -> IndexPageRows.parse(sessionCache.getDocument(url), indexPage)));
+            }
+        } // close() waits for every index page
+
+        indexPageRows.clear();
+        for (Map.Entry<String, Future<IndexPageRows>> e : futures.entrySet()) {
+            try {
+                indexPageRows.put(e.getKey(), e.getValue().get());
+            } catch (ExecutionException ee) {
+                if (!(ee.getCause() instanceof IOException)) {
+                    throw new MavenReportException(ee.getCause().getMessage(), ee);
+                }
+                // reported by the check of each artifact of the page
+                getLog().warn("cannot read index page " + e.getKey() + ": " + ee.getCause().getMessage());
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new MavenReportException("interrupted while reading index pages", ie);
+            }
+        }
+    }
 
-        String path = paths.get(cli.getArtifactId());
-        if (isMavenParentPoms) {
-            path = "Maven Parent POMs"; // looking for this <th><b> content
-        } else if (path == null) {
-            path = '/' + cli.getArtifactId() + '/';
+    private void updateIndexPageInfo(ConfigurationLineInfo cli, CheckIndexPageResult r, IndexPage indexPage)
+            throws IOException {
+        IndexPageRows rows = indexPageRows.get(indexPage.url);
+        if (rows == null) {
+            // prefetch failed: try again, to report the failure of this artifact
+            rows = IndexPageRows.parse(sessionCache.getDocument(indexPage.url), indexPage);
         }
 
-        for (Element e : a) {
-            String href = isMavenParentPoms ? e.text() : e.attr("href");
+        IndexPageRows.Row row;
+        if ("maven-parent".equals(cli.getArtifactId())) {
+            // Maven parent POM is now a special case in https://maven.apache.org/pom/
+            row = rows.findHeader("Maven Parent POMs"); // looking for this <th><b> content
+        } else {
+            String path = paths.get(cli.getArtifactId());
+            row = rows.findLink(path == null ? '/' + cli.getArtifactId() + '/' : path);
+        }
 
-            if (href.contains(path)) {
-                Element row = e.parent().parent();
-                r.setIndexVersion(row.child(indexPage.versionColumn - 1).ownText());
-                if (indexPage.containsDate) {
-                    r.setIndexDate(row.child(indexPage.versionColumn).ownText());
-                }
-                break;
-            }
+        if (row != null) {
+            r.setIndexVersion(row.version());
+            r.setIndexDate(row.date());
         }
     }
 
     /** {@inheritDoc} */
     @Override
-    protected void checkArtifact(ConfigurationLineInfo configLine, String version) throws MavenReportException {
-        try {
-            CheckIndexPageResult result = new CheckIndexPageResult(configLine, version);
+    protected CheckIndexPageResult newResult(ConfigurationLineInfo line, String version) {
+        return line.getIndexPageUrl() == null ? null : new CheckIndexPageResult(line, version);
+    }
 
-            if (configLine.getIndexPageUrl() != null) {
-                if (results.get(configLine.getIndexPageUrl()) == null) {
-                    results.put(configLine.getIndexPageUrl(), new LinkedList<CheckIndexPageResult>());
-                }
-                results.get(configLine.getIndexPageUrl()).add(result);
-                updateIndexPageInfo(configLine, result, INDEX_PAGES_REF.get(configLine.getIndexPageUrl()));
-            }
+    /** {@inheritDoc} */
+    @Override
+    protected CheckIndexPageResult checkArtifact(ConfigurationLineInfo configLine, String version)
+            throws MavenReportException {
+        if (configLine.getIndexPageUrl() == null) {
+            return null;
+        }
+
+        CheckIndexPageResult result = new CheckIndexPageResult(configLine, version);
+        try {
+            updateIndexPageInfo(configLine, result, INDEX_PAGES_REF.get(configLine.getIndexPageUrl()));
+            return result;
+        } catch (HostUnavailableException hue) {
+            addFailure(
+                    configLine,
+                    version,
+                    null,
+                    "host-unavailable",
+                    null,
+                    configLine.getArtifactId() + ": " + hue.getMessage(),
+                    List.of());
+            result.setUnavailableHost(hue.getHost());
+            return result;
         } catch (IOException ex) {
             throw new MavenReportException(ex.getMessage(), ex);
         }
@@ -18,14 +18,11 @@
  */
 package org.apache.maven.dist.tools.index;
 
-import org.jsoup.nodes.Document;
-
 class IndexPage {
     final String url;
     final String name;
     final int versionColumn;
     final boolean containsDate;
-    Document document;
 
     IndexPage(String url, String name, int versionColumn, boolean containsDate) {
         this.url = url;
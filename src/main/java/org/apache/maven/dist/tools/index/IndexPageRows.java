@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+/**
+ * Rows of an index page, parsed once: version and date of every component, by link path or by header text.
+ * <p>
+ * Components are looked up by a path contained in the href of their link, like <code>/maven-acr-plugin/</code>:
+ * every <code>/segment/</code> of every href is indexed, the first row of the page winning.
+ */
+class IndexPageRows {
+    /**
+     * Version and date of a component in an index page.
+     *
+     * @param version the version, or <code>null</code> if the row has no version column
+     * @param date the date, or <code>null</code> if the page has no date column
+     */
+    record Row(String version, String date) {}
+
+    private final Map<String, Row> bySegment = new HashMap<>();
+
+    /** Every link, in page order, for paths that are not a single segment. */
+    private final Map<String, Row> byHref = new LinkedHashMap<>();
+
+    private final Map<String, Row> byHeader = new LinkedHashMap<>();
+
+    /**
+     * Parse the rows of an index page.
+     *
+     * @param doc the index page
+     * @param indexPage the index page columns
+     * @return the rows
+     */
+    static IndexPageRows parse(Document doc, IndexPage indexPage) {
+        IndexPageRows rows = new IndexPageRows();
+        for (Element a : doc.select("tr > td > a[href]:not(.externalLink)")) {
+            Row row = toRow(a.parent().parent(), indexPage);
+            String href = a.attr("href");
+            rows.byHref.putIfAbsent(href, row);
+            for (String segment : segments(href)) {
+                rows.bySegment.putIfAbsent(segment, row);
+            }
+        }
+        for (Element b : doc.select("tr > th > b")) {
+            rows.byHeader.putIfAbsent(b.text(), toRow(b.parent().parent(), indexPage));
+        }
+        return rows;
+    }
+
+    private static Row toRow(Element tr, IndexPage indexPage) {
+        int column = indexPage.versionColumn - 1;
+        String version = tr.childrenSize() > column ? tr.child(column).ownText() : null;
+        String date = (indexPage.containsDate && tr.childrenSize() > column + 1)
+                ? tr.child(column + 1).ownText()
+                : null;
+        return new Row(version, date);
+    }
+
+    /**
+     * Every <code>/segment/</code> of an href: the single segment paths contained in it.
+     */
+    static List<String> segments(String href) {
+        List<String> segments = new ArrayList<>();
+        int start = href.indexOf('/');
+        while (start >= 0) {
+            int end = href.indexOf('/', start + 1);
+            if (end > start + 1) {
+                segments.add(href.substring(start, end + 1));
+            }
+            start = end;
+        }
+        return segments;
+    }
+
+    /**
+     * Find the row of a component link.
+     *
+     * @param path the path contained in the href of the link, like <code>/artifactId/</code>
+     * @return the row, or <code>null</code> if not found
+     */
+    Row findLink(String path) {
+        if (path.length() > 2 && path.startsWith("/") && path.indexOf('/', 1) == path.length() - 1) {
+            return bySegment.get(path);
+        }
+        // unusual index-path override
+        return find(byHref, path);
+    }
+
+    /**
+     * Find the row of a header, like the Maven parent POMs in the POMs index page.
+     *
+     * @param text the text contained in the header
+     * @return the row, or <code>null</code> if not found
+     */
+    Row findHeader(String text) {
+        Row row = byHeader.get(text);
+        return row != null ? row : find(byHeader, text);
+    }
+
+    private static Row find(Map<String, Row> rows, String contained) {
+        for (Map.Entry<String, Row> e : rows.entrySet()) {
+            if (e.getKey().contains(contained)) {
+                return e.getValue();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an artifact check, from version lookup to result.
+ */
+@Name("org.apache.maven.dist.tools.CheckArtifact")
+@Label("Check Artifact")
+@Description("Check of an artifact by a report, from version lookup to result")
+@Category("Maven Dist Tool")
+@StackTrace(false)
+public class CheckArtifactEvent extends Event {
+    /** The report. */
+    @Label("Mojo")
+    public String mojo;
+
+    /** The checked artifact. */
+    @Label("Artifact")
+    public String artifact;
+
+    /** <code>checked</code>, <code>skipped</code> when the repository is unavailable, or the failure message. */
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an HTTP fetch, or of a git remote listing, including retries.
+ */
+@Name("org.apache.maven.dist.tools.Fetch")
+@Label("Fetch")
+@Description("HTTP request or git remote listing, including retries")
+@Category({"Maven Dist Tool", "Network"})
+@StackTrace(false)
+public class FetchEvent extends Event {
+    /** The report. */
+    @Label("Mojo")
+    public String mojo;
+
+    /** The checked artifact. */
+    @Label("Artifact")
+    public String artifact;
+
+    /** HTTP method, or <code>git</code>. */
+    @Label("Method")
+    public String method;
+
+    /** The url. */
+    @Label("URL")
+    public String url;
+
+    /** Downloaded content size. */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /** Number of retries. */
+    @Label("Retries")
+    public int retries;
+
+    /** Cache status: <code>none</code>, <code>hit</code> or <code>miss</code>. */
+    @Label("Cache")
+    public String cache;
+
+    /** Last HTTP status, or <code>-1</code>. */
+    @Label("Status")
+    public int status;
+
+    /** <code>ok</code>, or the failure message. */
+    @Label("Outcome")
+    public String outcome;
+}
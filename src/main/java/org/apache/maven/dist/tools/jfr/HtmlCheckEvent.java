@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of an HTML checker evaluating a site page.
+ */
+@Name("org.apache.maven.dist.tools.HtmlCheck")
+@Label("HTML Check")
+@Description("Evaluation of a site page by an HTML checker")
+@Category("Maven Dist Tool")
+@StackTrace(false)
+public class HtmlCheckEvent extends Event {
+    /** The report. */
+    @Label("Mojo")
+    public String mojo;
+
+    /** The checked artifact. */
+    @Label("Artifact")
+    public String artifact;
+
+    /** The page url. */
+    @Label("URL")
+    public String url;
+
+    /** The checker name. */
+    @Label("Checker")
+    public String checker;
+
+    /** <code>ok</code> if the version is displayed, <code>ko</code> if not, or the failure message. */
+    @Label("Outcome")
+    public String outcome;
+}
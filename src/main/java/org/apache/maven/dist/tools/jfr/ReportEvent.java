@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a report phase: <code>check</code> of every artifact, then <code>render</code> to the sink.
+ */
+@Name("org.apache.maven.dist.tools.Report")
+@Label("Report Phase")
+@Description("Phase of a report: check of every artifact, then render to the sink")
+@Category("Maven Dist Tool")
+@StackTrace(false)
+public class ReportEvent extends Event {
+    /** The report. */
+    @Label("Mojo")
+    public String mojo;
+
+    /** <code>check</code> or <code>render</code>. */
+    @Label("Phase")
+    public String phase;
+
+    /** <code>ok</code>, or the failure message. */
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * Begin a report phase.
+     *
+     * @param mojo the report
+     * @param phase <code>check</code> or <code>render</code>
+     * @return the started event
+     */
+    public static ReportEvent start(String mojo, String phase) {
+        ReportEvent event = new ReportEvent();
+        event.mojo = mojo;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * End the report phase and commit the event, if enabled.
+     *
+     * @param failure the failure, or <code>null</code> if successful
+     */
+    public void finish(Throwable failure) {
+        end();
+        if (shouldCommit()) {
+            outcome = failure == null ? "ok" : String.valueOf(failure.getMessage());
+            commit();
+        }
+    }
+}
@@ -18,69 +18,68 @@
  */
 package org.apache.maven.dist.tools.jobs;
 
+import javax.inject.Inject;
+
+import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
-import java.util.stream.Collectors;
 
-import org.apache.maven.dist.tools.JsoupRetry;
+import org.apache.maven.dist.tools.AbstractDistToolReport;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.apache.maven.reporting.AbstractMavenReport;
 import org.apache.maven.reporting.MavenReportException;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
-
-public abstract class AbstractJobsReport extends AbstractMavenReport {
-    protected static final String GITBOX_URL = "https://gitbox.apache.org/repos/asf";
 
+public abstract class AbstractJobsReport extends AbstractDistToolReport {
     @Parameter(defaultValue = "8", property = "dist-tool.jobs.concurrency")
     protected int concurrency;
 
-    protected static final String MAVENBOX_JOBS_BASE_URL = "https://ci-maven.apache.org/job/Maven/job/maven-box/job/";
+    @Inject
+    protected JenkinsJobs jenkinsJobs;
+
+    @Inject
+    protected RepositoryCatalog repositoryCatalog;
+
+    /**
+     * Only report these repositories, when set.
+     */
+    @Parameter(property = "dist-tool.repositories.includes")
+    protected List<String> includeRepositories;
+
+    /**
+     * Repositories to leave out of the report, in addition to the ones without Jenkins job.
+     */
+    @Parameter(property = "dist-tool.repositories.excludes")
+    protected List<String> excludeRepositories;
 
-    private static final Collection<String> EXCLUDED = Arrays.asList(
-            "maven-blog",
-            "maven-build-helper-plugin",
-            "maven-gh-actions-shared",
-            "maven-hocon-extension",
-            "maven-integration-testing", // runs with Maven core job
-            "maven-jenkins-env",
-            "maven-jenkins-lib",
-            "maven-metric-extension",
-            "maven-mvnd",
-            "maven-sources",
-            "maven-studies",
-            "maven-xinclude-extension");
+    /**
+     * How long repositories discovered from Gitbox are reused without request, in hours.
+     */
+    @Parameter(defaultValue = "24", property = "dist-tool.repositories.ttl")
+    protected int repositoriesTimeToLive;
+
+    /**
+     * Directory of the state kept between runs, outside of <code>target</code> to be kept across clean builds.
+     */
+    @Parameter(defaultValue = "${user.home}/.cache/maven-dist-tool/state", property = "dist-tool.state")
+    protected File stateDirectory;
+
+    protected static final String MAVENBOX_JOBS_BASE_URL = "https://ci-maven.apache.org/job/Maven/job/maven-box/job/";
 
     /**
-     * Extract Git repository names for Apache Maven from
-     * <a href="https://gitbox.apache.org/repos/asf">Gitbox main page</a>,
-     * with some excludes.
+     * Git repository names for Apache Maven, from the shared {@link RepositoryCatalog}, with excludes.
      *
      * @return the list of repository names (without ".git")
      * @throws MavenReportException problem with reading repository index
      */
     protected Collection<String> repositoryNames() throws MavenReportException {
         try {
-            List<String> names = new ArrayList<>(100);
-            Document doc = JsoupRetry.get(GITBOX_URL);
-            // find Apache Maven table
-            Element apacheMavenTable =
-                    doc.getElementsMatchingText("^Apache Maven$").parents().get(0);
-
-            Elements gitRepo =
-                    apacheMavenTable.select("tbody tr").not("tr.disabled").select("td:first-child a");
-
-            for (Element element : gitRepo) {
-                names.add(element.text().split("\\.git")[0]);
-            }
-
-            return names.stream().filter(s -> !EXCLUDED.contains(s)).collect(Collectors.toList());
+            List<String> names = repositoryCatalog.getRepositories(
+                    new File(stateDirectory, "repositories.json").toPath(), Duration.ofHours(repositoriesTimeToLive));
+            return RepositoryCatalog.filter(names, includeRepositories, excludeRepositories);
         } catch (IOException e) {
-            throw new MavenReportException("Failed to extract repositorynames from Gitbox " + GITBOX_URL, e);
+            throw new MavenReportException(
+                    "Failed to extract repositorynames from Gitbox " + RepositoryCatalog.GITBOX_URL, e);
         }
     }
 }
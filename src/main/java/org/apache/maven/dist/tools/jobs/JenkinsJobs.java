@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Jenkins jobs of every repository in the <code>maven-box</code> folder, read with one request for the whole folder
+ * and shared by the jobs reports of a Maven session. If that request fails, jobs are read with one request per
+ * repository.
+ */
+@Named
+@Singleton
+public class JenkinsJobs {
+    private static final Logger LOG = LoggerFactory.getLogger(JenkinsJobs.class);
+
+    private static final String MAVENBOX_URL = "https://ci-maven.apache.org/job/Maven/job/maven-box/";
+
+    /** Fields of a job used by the jobs reports. */
+    private static final String JOB_TREE = "name,url,color,lastBuild[result,number,timestamp]";
+
+    /** Jobs of the repositories of the folder, with the fields used by the jobs reports. */
+    private static final String FOLDER_QUERY = "api/json?tree=jobs[name,jobs[" + JOB_TREE + "]]";
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    /**
+     * Last build of a job.
+     *
+     * @param result the build result, or <code>null</code> while building
+     * @param number the build number
+     * @param timestamp the build start, in milliseconds since epoch
+     */
+    public record Build(String result, int number, long timestamp) {}
+
+    /**
+     * Job of a branch of a repository.
+     *
+     * @param name the branch name
+     * @param url the job url
+     * @param color the job status color
+     * @param lastBuild the last build, or <code>null</code> if the job never ran
+     */
+    public record Job(String name, String url, String color, Build lastBuild) {}
+
+    private final HttpTransport transport;
+
+    private final String folderUrl;
+
+    private boolean folderRead;
+
+    private Map<String, List<Job>> repositories;
+
+    /**
+     * <p>Constructor for JenkinsJobs.</p>
+     *
+     * @param transport the HTTP transport
+     */
+    @Inject
+    public JenkinsJobs(HttpTransport transport) {
+        this(transport, MAVENBOX_URL);
+    }
+
+    JenkinsJobs(HttpTransport transport, String folderUrl) {
+        this.transport = transport;
+        this.folderUrl = folderUrl;
+    }
+
+    /**
+     * Jobs of a repository, from the jobs of the whole folder read on first call, or from a request on the repository
+     * if the folder cannot be read.
+     *
+     * @param repository the repository name
+     * @return the jobs of the repository, or <code>null</code> if the folder has no such repository
+     * @throws IOException if the jobs cannot be read
+     */
+    public List<Job> getJobs(String repository) throws IOException {
+        Map<String, List<Job>> folder = getFolder();
+        if (folder != null) {
+            return folder.get(repository);
+        }
+        try (InputStream input =
+                transport.openStream(folderUrl + "job/" + repository + "/api/json?tree=jobs[" + JOB_TREE + "]")) {
+            return parseRepository(input);
+        }
+    }
+
+    /**
+     * Jobs of every repository, read once.
+     *
+     * @return the jobs of each repository, by repository name, or <code>null</code> if the folder cannot be read
+     */
+    private synchronized Map<String, List<Job>> getFolder() {
+        if (!folderRead) {
+            folderRead = true;
+            String url = folderUrl + FOLDER_QUERY;
+            try (InputStream input = transport.openStream(url)) {
+                repositories = Collections.unmodifiableMap(parse(input));
+            } catch (IOException e) {
+                LOG.warn(
+                        "Failed to read Jenkins jobs {}, reading the jobs of each repository: {}",
+                        url,
+                        e.getMessage());
+            }
+        }
+        return repositories;
+    }
+
+    /**
+     * Stream parse the jobs of the folder, keeping only the fields of the records.
+     *
+     * @param input the Jenkins JSON response
+     * @return the jobs of each repository
+     * @throws IOException if the response cannot be read
+     */
+    static Map<String, List<Job>> parse(InputStream input) throws IOException {
+        Map<String, List<Job>> repositories = new LinkedHashMap<>();
+        try (JsonParser parser = JSON.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("unexpected Jenkins response: " + parser.currentToken());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && "jobs".equals(field)) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        List<Job> jobs = new ArrayList<>();
+                        String name = readRepository(parser, jobs);
+                        if (name != null) {
+                            repositories.put(name, Collections.unmodifiableList(jobs));
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return repositories;
+    }
+
+    /**
+     * Stream parse the jobs of a repository.
+     *
+     * @param input the Jenkins JSON response
+     * @return the jobs of the repository
+     * @throws IOException if the response cannot be read
+     */
+    static List<Job> parseRepository(InputStream input) throws IOException {
+        List<Job> jobs = new ArrayList<>();
+        try (JsonParser parser = JSON.createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("unexpected Jenkins response: " + parser.currentToken());
+            }
+            readRepository(parser, jobs);
+        }
+        return Collections.unmodifiableList(jobs);
+    }
+
+    private static String readRepository(JsonParser parser, List<Job> jobs) throws IOException {
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(field)) {
+                name = parser.getValueAsString();
+            } else if ("jobs".equals(field) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    jobs.add(readJob(parser));
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    private static Job readJob(JsonParser parser) throws IOException {
+        String name = null;
+        String url = null;
+        String color = null;
+        Build lastBuild = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "name" -> name = parser.getValueAsString();
+                case "url" -> url = parser.getValueAsString();
+                case "color" -> color = parser.getValueAsString();
+                case "lastBuild" -> lastBuild = value == JsonToken.START_OBJECT ? readBuild(parser) : null;
+                default -> parser.skipChildren();
+            }
+        }
+        return new Job(name, url, color, lastBuild);
+    }
+
+    private static Build readBuild(JsonParser parser) throws IOException {
+        String result = null;
+        int number = 0;
+        long timestamp = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "result" -> result = parser.getValueAsString();
+                case "number" -> number = parser.getValueAsInt();
+                case "timestamp" -> timestamp = parser.getValueAsLong();
+                default -> parser.skipChildren();
+            }
+        }
+        return new Build(result, number, timestamp);
+    }
+}
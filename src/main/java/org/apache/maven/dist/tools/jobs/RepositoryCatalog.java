@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Git repositories of Apache Maven, discovered from <a href="https://gitbox.apache.org/repos/asf">Gitbox main page</a>
+ * once per Maven session and catalog file, and kept between runs: a catalog younger than its time to live is reused
+ * without request, an older one is revalidated through the HTTP responses cache.
+ */
+@Named
+@Singleton
+public class RepositoryCatalog {
+    private static final Logger LOG = LoggerFactory.getLogger(RepositoryCatalog.class);
+
+    /** Gitbox main page. */
+    public static final String GITBOX_URL = "https://gitbox.apache.org/repos/asf";
+
+    /** Repositories without Jenkins job or report, always excluded. */
+    public static final Set<String> EXCLUDED = Set.of(
+            "maven-blog",
+            "maven-build-helper-plugin",
+            "maven-gh-actions-shared",
+            "maven-hocon-extension",
+            "maven-integration-testing", // runs with Maven core job
+            "maven-jenkins-env",
+            "maven-jenkins-lib",
+            "maven-metric-extension",
+            "maven-mvnd",
+            "maven-sources",
+            "maven-studies",
+            "maven-xinclude-extension");
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Catalog kept between runs.
+     *
+     * @param discoveredAt when the repositories were discovered, in milliseconds since epoch
+     * @param repositories the repository names, without <code>.git</code>
+     */
+    record Snapshot(long discoveredAt, List<String> repositories) {}
+
+    private final HttpTransport transport;
+
+    /** Repositories discovered in the session, by catalog file: reports may keep their state in other directories. */
+    private final Map<Path, List<String>> repositories = new HashMap<>();
+
+    /**
+     * <p>Constructor for RepositoryCatalog.</p>
+     *
+     * @param transport the HTTP transport
+     */
+    @Inject
+    public RepositoryCatalog(HttpTransport transport) {
+        this.transport = transport;
+    }
+
+    /**
+     * Repositories of Apache Maven, discovered on first call of the session for the file.
+     *
+     * @param file the file keeping the catalog between runs
+     * @param timeToLive how long the kept catalog is used without request
+     * @return the repository names, without <code>.git</code>, before any exclusion
+     * @throws IOException if repositories can be neither discovered nor read from a previous run
+     */
+    public synchronized List<String> getRepositories(Path file, Duration timeToLive) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        List<String> names = repositories.get(key);
+        if (names == null) {
+            names = discover(file, timeToLive);
+            repositories.put(key, names);
+        }
+        return names;
+    }
+
+    private List<String> discover(Path file, Duration timeToLive) throws IOException {
+        Snapshot kept = load(file);
+        if (kept != null && System.currentTimeMillis() - kept.discoveredAt() < timeToLive.toMillis()) {
+            return kept.repositories();
+        }
+        try {
+            Snapshot discovered = new Snapshot(System.currentTimeMillis(), parse(transport.getDocument(GITBOX_URL)));
+            save(file, discovered);
+            return discovered.repositories();
+        } catch (IOException e) {
+            if (kept == null) {
+                throw e;
+            }
+            LOG.warn("Cannot discover repositories, using catalog of previous run: {}", e.getMessage());
+            return kept.repositories();
+        }
+    }
+
+    /**
+     * Extract repository names from the Apache Maven table of Gitbox main page, without disabled repositories.
+     *
+     * @param doc the Gitbox main page
+     * @return the repository names, without <code>.git</code>
+     * @throws IOException if the page has no Apache Maven table
+     */
+    static List<String> parse(Document doc) throws IOException {
+        Elements title = doc.getElementsMatchingText("^Apache Maven$");
+        if (title.isEmpty()) {
+            throw new IOException("Apache Maven table not found in " + GITBOX_URL);
+        }
+        // find Apache Maven table
+        Element apacheMavenTable = title.parents().get(0);
+
+        Elements gitRepo = apacheMavenTable.select("tbody tr").not("tr.disabled").select("td:first-child a");
+
+        List<String> names = new ArrayList<>(gitRepo.size());
+        for (Element element : gitRepo) {
+            names.add(element.text().split("\\.git")[0]);
+        }
+        return List.copyOf(names);
+    }
+
+    /**
+     * Apply exclusions and configured includes to repository names.
+     *
+     * @param repositories the repository names
+     * @param includes the only repositories to keep, if not empty
+     * @param excludes repositories to remove, in addition to {@link #EXCLUDED}
+     * @return the kept repository names
+     */
+    public static List<String> filter(
+            List<String> repositories, Collection<String> includes, Collection<String> excludes) {
+        List<String> kept = new ArrayList<>(repositories.size());
+        for (String repository : repositories) {
+            if ((includes == null || includes.isEmpty() || includes.contains(repository))
+                    && !EXCLUDED.contains(repository)
+                    && (excludes == null || !excludes.contains(repository))) {
+                kept.add(repository);
+            }
+        }
+        return kept;
+    }
+
+    private static Snapshot load(Path file) {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try {
+            Snapshot snapshot = MAPPER.readValue(file.toFile(), Snapshot.class);
+            return snapshot.repositories() == null ? null : snapshot;
+        } catch (IOException e) {
+            LOG.warn("Ignoring unreadable repository catalog {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void save(Path file, Snapshot snapshot) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            MAPPER.writeValue(tmp.toFile(), snapshot);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Cannot write repository catalog {}: {}", file, e.getMessage());
+        }
+    }
+}
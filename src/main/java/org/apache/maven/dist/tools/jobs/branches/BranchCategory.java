@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs.branches;
+
+/**
+ * Type of a Git branch, as reported by <code>list-branches</code>.
+ */
+enum BranchCategory {
+    /** The <code>master</code> branch. */
+    MASTER,
+    /** Branch named after a JIRA issue of the repository project, like <code>MNG-1234</code>. */
+    JIRA,
+    /** Dependency upgrade proposed by dependabot. */
+    DEPENDABOT,
+    /** Any other branch. */
+    REST;
+
+    /**
+     * Categorize a branch.
+     *
+     * @param branch the branch name
+     * @param jiraPrefix the issue key prefix of the repository JIRA project, like <code>MNG-</code>, or
+     *            <code>null</code> if the repository has no JIRA project
+     * @return the category
+     */
+    static BranchCategory of(String branch, String jiraPrefix) {
+        if ("master".equals(branch)) {
+            return MASTER;
+        }
+        if (jiraPrefix != null && branch.regionMatches(true, 0, jiraPrefix, 0, jiraPrefix.length())) {
+            return JIRA;
+        }
+        if (branch.startsWith("dependabot/")) {
+            return DEPENDABOT;
+        }
+        return REST;
+    }
+}
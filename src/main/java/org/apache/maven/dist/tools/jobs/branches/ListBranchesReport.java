@@ -18,23 +18,32 @@
  */
 package org.apache.maven.dist.tools.jobs.branches;
 
+import java.io.File;
 import java.io.IOException;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import org.apache.maven.dist.tools.JsonRetry;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import org.apache.maven.dist.tools.CheckState;
+import org.apache.maven.dist.tools.http.HttpStatusException;
+import org.apache.maven.dist.tools.http.ReplayServer;
+import org.apache.maven.dist.tools.http.StandInServer;
 import org.apache.maven.dist.tools.jobs.AbstractJobsReport;
+import org.apache.maven.dist.tools.jobs.JenkinsJobs;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.doxia.sink.SinkEventAttributes;
 import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
@@ -159,6 +168,8 @@ public class ListBranchesReport extends AbstractJobsReport {
         JIRAPROJECTS.put("maven-wrapper", "MWRAPPER");
     }
 
+    private CheckState state;
+
     /**
      * List Branches Constructor.
      */
@@ -184,94 +195,160 @@ public class ListBranchesReport extends AbstractJobsReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         Collection<String> repositoryNames = repositoryNames();
 
-        List<Result> repoStatus = Flux.fromIterable(repositoryNames)
-                .flatMap(
-                        repo -> fetchResult(repo).onErrorResume(e -> {
-                            getLog().warn("Failed to read status for " + repo + " Jenkins job " + MAVENBOX_JOBS_BASE_URL
-                                    + repo);
-                            return Mono.empty();
-                        }),
-                        concurrency)
-                .collectList()
-                .block();
+        loadState();
+
+        // JGit calls and dependabot probes are blocking: run them on threads of the report, up to the concurrency
+        Scheduler blocking = Schedulers.fromExecutorService(
+                Executors.newFixedThreadPool(
+                        Math.max(1, concurrency), Thread.ofVirtual().name("dist-tool-branches-", 0).factory()),
+                "dist-tool-branches");
+        List<Result> repoStatus;
+        try {
+            repoStatus = Flux.fromIterable(repositoryNames)
+                    .flatMap(
+                            repo -> fetchResult(repo, blocking).onErrorResume(e -> {
+                                getLog().warn("Failed to read status for " + repo + " Jenkins job "
+                                        + MAVENBOX_JOBS_BASE_URL + repo);
+                                return Mono.empty();
+                            }),
+                            concurrency)
+                    .collectList()
+                    .block();
+        } finally {
+            blocking.dispose();
+        }
+
+        saveState();
 
         generateReport(repoStatus);
     }
 
-    private Mono<Result> fetchResult(String repository) {
+    private Mono<Result> fetchResult(String repository, Scheduler blocking) {
         String repositoryJobUrl = MAVENBOX_JOBS_BASE_URL + repository + "/api/json?tree=jobs[name]";
 
-        Mono<JsonNode> jenkinsMono = JsonRetry.getAsync(repositoryJobUrl);
-        Scheduler scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor());
-        Mono<Collection<String>> branchesMono =
-                Mono.fromCallable(() -> getBranches(repository)).subscribeOn(scheduler);
-
-        return Mono.zip(jenkinsMono, branchesMono).map(tuple -> {
-            JsonNode jenkinsBranchesDoc = tuple.getT1();
-            Collection<String> gitBranches = tuple.getT2();
-
-            Result result = new Result(repository, repositoryJobUrl);
-            int masterBranchesGit = 0;
-            int masterBranchesJenkins = 0;
-            Collection<String> jiraBranchesGit = new ArrayList<>();
-            Collection<String> jiraBranchesJenkins = new ArrayList<>();
-            Collection<String> dependabotBranchesGit = new ArrayList<>();
-            Collection<String> dependabotBranchesJenkins = new ArrayList<>();
-            Collection<String> restGit = new ArrayList<>();
-            Collection<String> restJenkins = new ArrayList<>();
-
-            for (String branch : gitBranches) {
-                if ("master".equals(branch)) {
-                    masterBranchesGit++;
-
-                    if (jenkinsBranchesDoc
-                            .get("jobs")
-                            .valueStream()
-                            .anyMatch(n -> n.get("name").asText().equals("master"))) {
-                        masterBranchesJenkins++;
-                    }
-                } else if (JIRAPROJECTS.containsKey(repository)
-                        && branch.toUpperCase().startsWith(JIRAPROJECTS.get(repository) + '-')) {
-                    jiraBranchesGit.add(branch);
-                    if (jenkinsBranchesDoc
-                            .get("jobs")
-                            .valueStream()
-                            .anyMatch(n -> n.get("name").asText().equals(branch))) {
-                        jiraBranchesJenkins.add(branch);
-                    }
-                } else if (branch.startsWith("dependabot/")) {
-                    dependabotBranchesGit.add(branch);
-                    if (jenkinsBranchesDoc
-                            .get("jobs")
-                            .valueStream()
-                            .anyMatch(n -> n.get("name").asText().equals(branch))) {
-                        dependabotBranchesJenkins.add(branch);
-                    }
-                } else {
-                    restGit.add(branch);
-                    if (jenkinsBranchesDoc
-                            .get("jobs")
-                            .valueStream()
-                            .anyMatch(n -> n.get("name").asText().equals(branch))) {
-                        restJenkins.add(branch);
-                    }
-                }
+        // jobs of every repository are read with one request, while branches are listed
+        Mono<List<JenkinsJobs.Job>> jenkinsMono = Mono.fromCallable(() -> jenkinsJobs.getJobs(repository))
+                .subscribeOn(blocking)
+                .switchIfEmpty(Mono.error(() -> new IOException("no Jenkins job for " + repository)));
+        Mono<Map<String, String>> branchesMono =
+                Mono.fromCallable(() -> getBranches(repository)).subscribeOn(blocking);
+
+        return Mono.zip(jenkinsMono, branchesMono).flatMap(tuple -> {
+            Result result = reconcile(repository, repositoryJobUrl, tuple.getT1(), tuple.getT2().keySet());
+            if (!result.getDependabotBranchesGit().isEmpty()) {
+                // dependabot is obviously configured
+                return Mono.just(result);
             }
+            return probeDependabotConfig(result, tuple.getT2().get("master"), blocking);
+        });
+    }
+
+    /**
+     * Probe dependabot configuration, unless probed by a previous run on the same master commit.
+     */
+    private Mono<Result> probeDependabotConfig(Result result, String masterCommit, Scheduler blocking) {
+        String repository = result.getRepositoryName();
+        CheckState.Entry previous = masterCommit == null ? null : state.get(repository);
+        if (previous != null && masterCommit.equals(previous.fingerprint())) {
+            result.setDependabotConfig(previous.outcome().asBoolean());
+            return Mono.just(result);
+        }
+        return Mono.fromCallable(() -> hasDependabotYml(repository))
+                .subscribeOn(blocking)
+                .map(present -> {
+                    result.setDependabotConfig(present);
+                    if (masterCommit != null) {
+                        state.put(
+                                repository,
+                                new CheckState.Entry(
+                                        null,
+                                        null,
+                                        masterCommit,
+                                        System.currentTimeMillis(),
+                                        List.of(),
+                                        BooleanNode.valueOf(present)));
+                    }
+                    return result;
+                })
+                .onErrorResume(IOException.class, e -> {
+                    getLog().warn("Cannot probe " + DEPENDABOT_CONFIG + " of " + repository + ": " + e.getMessage());
+                    return Mono.just(result);
+                });
+    }
 
-            result.setMasterBranchesGit(masterBranchesGit);
-            result.setMasterBranchesJenkins(masterBranchesJenkins);
-            result.setJiraBranchesGit(jiraBranchesGit);
-            result.setJiraBranchesJenkins(jiraBranchesJenkins);
-            result.setDependabotBranchesGit(dependabotBranchesGit);
-            result.setDependabotBranchesJenkins(dependabotBranchesJenkins);
-            result.setRestGit(restGit);
-            result.setRestJenkins(restJenkins);
+    private File getStateFile() {
+        return new File(stateDirectory, getOutputName() + ".json");
+    }
 
-            return result;
-        });
+    private void loadState() {
+        try {
+            state = CheckState.load(getStateFile().toPath());
+        } catch (IOException e) {
+            // start again from scratch
+            getLog().warn("Ignoring unreadable state file " + getStateFile() + ": " + e.getMessage());
+            state = CheckState.empty(getStateFile().toPath());
+        }
+    }
+
+    private void saveState() {
+        try {
+            state.save();
+        } catch (IOException e) {
+            getLog().warn("Cannot write state file " + getStateFile() + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Match Git branches of a repository with the branches built by Jenkins, by type of branch.
+     *
+     * @param repository the repository name
+     * @param repositoryJobUrl the Jenkins jobs url of the repository
+     * @param jenkinsJobs the Jenkins jobs of the repository
+     * @param gitBranches the Git branches
+     * @return the result, without dependabot configuration
+     */
+    static Result reconcile(
+            String repository,
+            String repositoryJobUrl,
+            Collection<JenkinsJobs.Job> jenkinsJobs,
+            Collection<String> gitBranches) {
+        Set<String> jobs = new HashSet<>();
+        for (JenkinsJobs.Job job : jenkinsJobs) {
+            jobs.add(job.name());
+        }
+
+        String jiraProject = JIRAPROJECTS.get(repository);
+        String jiraPrefix = jiraProject == null ? null : jiraProject + '-';
+        Map<BranchCategory, Collection<String>> git = new EnumMap<>(BranchCategory.class);
+        Map<BranchCategory, Collection<String>> jenkins = new EnumMap<>(BranchCategory.class);
+        for (BranchCategory category : BranchCategory.values()) {
+            git.put(category, new ArrayList<>());
+            // looked up by the report, for the branches without job
+            jenkins.put(category, new LinkedHashSet<>());
+        }
+
+        for (String branch : gitBranches) {
+            BranchCategory category = BranchCategory.of(branch, jiraPrefix);
+            git.get(category).add(branch);
+            if (jobs.contains(branch)) {
+                jenkins.get(category).add(branch);
+            }
+        }
+
+        Result result = new Result(repository, repositoryJobUrl);
+        result.setMasterBranchesGit(git.get(BranchCategory.MASTER).size());
+        result.setMasterBranchesJenkins(jenkins.get(BranchCategory.MASTER).size());
+        result.setJiraBranchesGit(git.get(BranchCategory.JIRA));
+        result.setJiraBranchesJenkins(jenkins.get(BranchCategory.JIRA));
+        result.setDependabotBranchesGit(git.get(BranchCategory.DEPENDABOT));
+        result.setDependabotBranchesJenkins(jenkins.get(BranchCategory.DEPENDABOT));
+        result.setRestGit(git.get(BranchCategory.REST));
+        result.setRestJenkins(jenkins.get(BranchCategory.REST));
+
+        return result;
     }
 
     private String getGitHubBranchesUrl(String repository) {
@@ -403,12 +480,10 @@ public class ListBranchesReport extends AbstractJobsReport {
                     // dependabot branches
                     sink.tableCell();
                     if (r.getDependabotBranchesGit().isEmpty()) {
-                        try {
-                            if (hasDependabotYml(r.getRepositoryName())) {
-                                sink.text("-");
-                            }
-                        } catch (IOException e) {
+                        if (r.getDependabotConfig() == null) {
                             sink.text("_");
+                        } else if (r.getDependabotConfig()) {
+                            sink.text("-");
                         }
                     } else {
                         SinkEventAttributes jenkinsLinkAttributes = new SinkEventAttributeSet();
@@ -520,31 +595,55 @@ public class ListBranchesReport extends AbstractJobsReport {
      *
      * @param repositoryName a {@link java.lang.String} object
      * @return a boolean
-     * @throws java.io.IOException if any.
+     * @throws java.io.IOException if any, including an HTTP status other than found or not found
      */
-    protected static boolean hasDependabotYml(String repositoryName) throws IOException {
-        URL url = new URL(GITHUB_URL + repositoryName + "/blob/master/" + DEPENDABOT_CONFIG);
-
-        HttpURLConnection con = (HttpURLConnection) url.openConnection();
-        con.setRequestMethod("HEAD");
-
-        return con.getResponseCode() == HttpURLConnection.HTTP_OK;
+    protected boolean hasDependabotYml(String repositoryName) throws IOException {
+        String url = GITHUB_URL + repositoryName + "/blob/master/" + DEPENDABOT_CONFIG;
+        int status = transport.head(url);
+        if (status != 200 && status != 404) {
+            // like rate limiting: don't keep as absent
+            throw new HttpStatusException(status, url);
+        }
+        return status == 200;
     }
 
-    private Collection<String> getBranches(String repository) throws GitAPIException {
-        final var refs = Git.lsRemoteRepository()
-                .setHeads(true)
-                .setTags(false)
-                .setRemote(GITHUB_URL + repository + ".git")
-                .call();
+    /**
+     * Branches of a repository, with their head commit.
+     *
+     * @return the commit id of each branch, <code>null</code> when replaying
+     */
+    private Map<String, String> getBranches(String repository) throws GitAPIException, IOException {
+        final var remote = GITHUB_URL + repository + ".git";
+        final var branches = new LinkedHashMap<String, String>();
+        final StandInServer standIn = transport.getStandIn();
+        if (standIn != null) {
+            for (final String branch : standIn.lsRemote(remote)) {
+                branches.put(branch, null);
+            }
+            return branches;
+        }
+        final var sample = transport.getTimings().start("git", "github.com", remote);
+        final Collection<Ref> refs;
+        try {
+            refs = Git.lsRemoteRepository()
+                    .setHeads(true)
+                    .setTags(false)
+                    .setRemote(remote)
+                    .call();
+            sample.end(null);
+        } catch (GitAPIException | RuntimeException e) {
+            sample.end(e);
+            throw e;
+        }
 
-        final var branches = new ArrayList<String>();
         for (final Ref ref : refs) {
             final var name = ref.getName();
             var branch = name.substring(11);
-            branches.add(branch);
+            branches.put(branch, ref.getObjectId() == null ? null : ref.getObjectId().name());
             System.out.println(branch);
         }
+        transport.recordExchange(
+                ReplayServer.GIT, remote, String.join("\n", branches.keySet()).getBytes(StandardCharsets.UTF_8));
         return branches;
     }
 }
@@ -42,6 +42,8 @@ public class Result {
     private Collection<String> restGit;
     private Collection<String> restJenkins;
 
+    private Boolean dependabotConfig;
+
     /**
      * <p>Constructor for Result.</p>
      *
@@ -215,6 +217,24 @@ public class Result {
         return buildUrl;
     }
 
+    /**
+     * Is there a dependabot configuration? Probed only for repositories without dependabot branch.
+     *
+     * @return <code>null</code> if not probed or if the probe failed
+     */
+    public Boolean getDependabotConfig() {
+        return dependabotConfig;
+    }
+
+    /**
+     * <p>Setter for the field <code>dependabotConfig</code>.</p>
+     *
+     * @param dependabotConfig a {@link java.lang.Boolean} object
+     */
+    public void setDependabotConfig(Boolean dependabotConfig) {
+        this.dependabotConfig = dependabotConfig;
+    }
+
     /**
      * <p>getTotalGit.</p>
      *
@@ -30,15 +30,14 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
-import org.apache.maven.dist.tools.JsonRetry;
 import org.apache.maven.dist.tools.jobs.AbstractJobsReport;
+import org.apache.maven.dist.tools.jobs.JenkinsJobs;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.reporting.MavenReportException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Generate report with build status of the Jenkins job for the master branch of every Git repository in
@@ -75,14 +74,14 @@ public class ListMasterJobsReport extends AbstractJobsReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         Collection<String> repositoryNames = repositoryNames();
 
+        // jobs of every repository are read with one request, or with one request per repository if it fails
         List<Result> repoStatus = Flux.fromIterable(repositoryNames)
                 .flatMap(
-                        repo -> JsonRetry.getAsync(MAVENBOX_JOBS_BASE_URL + repo
-                                        + "/api/json?tree=jobs[name,url,color,lastBuild[result,number,timestamp]]")
-                                .flatMap(jsonNode -> buildResult(repo, jsonNode))
+                        repo -> Mono.fromCallable(() -> buildResult(repo, jenkinsJobs.getJobs(repo)))
+                                .subscribeOn(Schedulers.boundedElastic())
                                 .onErrorResume(e -> {
                                     getLog().warn("Failed to read status for " + repo + " Jenkins job "
                                             + MAVENBOX_JOBS_BASE_URL + repo);
@@ -95,41 +94,36 @@ public class ListMasterJobsReport extends AbstractJobsReport {
         generateReport(repoStatus);
     }
 
-    private Mono<Result> buildResult(String repository, JsonNode jsonNode) {
-        if (!(jsonNode instanceof ObjectNode objectNode)) {
-            getLog().warn("Failed to read JSON for " + repository + " Jenkins job " + MAVENBOX_JOBS_BASE_URL
+    private Result buildResult(String repository, List<JenkinsJobs.Job> jobs) {
+        if (jobs == null) {
+            getLog().warn("Failed to read status for " + repository + " Jenkins job " + MAVENBOX_JOBS_BASE_URL
                     + repository);
-            return Mono.empty();
+            return null;
         }
-        // find the master node
-        return Mono.justOrEmpty(objectNode
-                .get("jobs")
-                .valueStream()
-                .filter(n -> n.get("name").asText().equals("master"))
+        // find the master job
+        return jobs.stream()
+                .filter(job -> "master".equals(job.name()))
                 .findFirst()
-                .map(n -> {
-                    JsonNode lastBuild = n.get("lastBuild");
+                .map(job -> {
+                    JenkinsJobs.Build lastBuild = job.lastBuild();
                     // "result" is null while a build is still running, and lastBuild
                     // itself is absent for a job that has never run. Dereferencing
                     // either unconditionally dropped the repository from the report.
-                    JsonNode resultNode = lastBuild != null ? lastBuild.get("result") : null;
-                    String status = (resultNode == null || resultNode.isNull()) ? "UNKNOWN" : resultNode.asText();
-                    String buildUrl = lastBuild != null
-                            ? n.get("url").asText() + lastBuild.get("number").asText()
-                            : n.get("url").asText();
+                    String status = (lastBuild == null || lastBuild.result() == null) ? "UNKNOWN" : lastBuild.result();
+                    String buildUrl = lastBuild != null ? job.url() + lastBuild.number() : job.url();
                     Result result = new Result(repository, buildUrl);
                     result.setStatus(status);
                     result.setIcon(retrieveIcon(status));
 
-                    long timestamp =
-                            lastBuild != null ? lastBuild.get("timestamp").asLong() : 0L;
+                    long timestamp = lastBuild != null ? lastBuild.timestamp() : 0L;
                     if (timestamp != 0L) {
                         result.setLastBuild(
                                 ZonedDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()));
                     }
 
                     return result;
-                }));
+                })
+                .orElse(null);
     }
 
     private String retrieveIcon(String status) {
@@ -29,6 +29,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.apache.maven.dist.tools.AbstractCheckResult;
 import org.apache.maven.dist.tools.AbstractDistCheckReport;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
 import org.apache.maven.doxia.sink.Sink;
@@ -48,7 +49,7 @@ import org.kohsuke.github.GitHub;
  * @author Patrice Cavezzan
  */
 @Mojo(name = "memory-check", requiresProject = false)
-public class MemoryCheckReport extends AbstractDistCheckReport {
+public class MemoryCheckReport extends AbstractDistCheckReport<AbstractCheckResult> {
 
     private static final String GITHUB_REPOSITORY = "quick-perf/maven-test-bench";
     /** Constant <code>GITHUB_REPOSITORY_URL="<a href="https://github.com/">...</a> + GITHUB_REPOSITORY"</code> */
@@ -66,7 +67,7 @@ public class MemoryCheckReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         final Sink sink = getSink();
 
         sink.head();
@@ -139,7 +140,9 @@ public class MemoryCheckReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void checkArtifact(ConfigurationLineInfo request, String repoBase) {}
+    protected AbstractCheckResult checkArtifact(ConfigurationLineInfo request, String repoBase) {
+        return null;
+    }
 
     /** {@inheritDoc} */
     @Override
@@ -18,19 +18,12 @@
  */
 package org.apache.maven.dist.tools.pgp;
 
-import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
-import java.io.Reader;
-import java.io.StringWriter;
-import java.net.URL;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 
-import org.apache.commons.io.IOUtils;
+import org.apache.maven.dist.tools.AbstractCheckResult;
 import org.apache.maven.dist.tools.AbstractDistCheckReport;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
 import org.apache.maven.doxia.sink.Sink;
@@ -43,7 +36,7 @@ import static org.apache.maven.doxia.sink.impl.SinkEventAttributeSet.Semantics.B
  * Check PGP public KEYS files.
  */
 @Mojo(name = "check-pgp-keys", requiresProject = false)
-public class CheckPgpKeysReport extends AbstractDistCheckReport {
+public class CheckPgpKeysReport extends AbstractDistCheckReport<AbstractCheckResult> {
     /** Constant <code>FAILURES_FILENAME="check-pgp-keys.log"</code> */
     public static final String FAILURES_FILENAME = "check-pgp-keys.log";
 
@@ -94,18 +87,22 @@ public class CheckPgpKeysReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         String editKeys1 = fetchUrl(EDIT_KEYS_1_URL);
         String publishKeys2 = fetchUrl(PUBLISH_KEYS_2_URL);
         String downloadKeys3 = fetchUrl(DOWNLOAD_KEYS_3_URL);
 
+        resetFailures();
         if (!editKeys1.equals(publishKeys2)) {
-            File failure = new File(failuresDirectory, FAILURES_FILENAME);
-            try (PrintWriter output = new PrintWriter(new FileWriter(failure))) {
-                output.println("PGP KEYS files content is different: " + PUBLISH_KEYS_2_URL + " vs " + EDIT_KEYS_1_URL);
-            } catch (Exception e) {
-                getLog().error("Cannot append to " + getFailuresFilename());
-            }
+            addFailure(
+                    null,
+                    null,
+                    null,
+                    "pgp-keys",
+                    PUBLISH_KEYS_2_URL,
+                    "PGP KEYS files content is different: " + PUBLISH_KEYS_2_URL + " vs " + EDIT_KEYS_1_URL,
+                    List.of());
+            flushFailures();
         }
 
         Sink sink = getSink();
@@ -213,20 +210,19 @@ public class CheckPgpKeysReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void checkArtifact(ConfigurationLineInfo request, String repoBase) {}
+    protected AbstractCheckResult checkArtifact(ConfigurationLineInfo request, String repoBase) {
+        return null;
+    }
 
     private String fetchUrl(String url) throws MavenReportException {
-        try (InputStream in = new URL(url).openStream();
-                Reader reader = new InputStreamReader(in, "UTF-8");
-                StringWriter writer = new StringWriter()) {
-            IOUtils.copy(reader, writer);
-            return writer.toString();
+        try {
+            return transport.getString(url);
         } catch (IOException ioe) {
             throw new MavenReportException("cannot fetch " + url, ioe);
         }
     }
 
-    private static class KeysIterator implements Iterator<String> {
+    static class KeysIterator implements Iterator<String> {
         private static final String BEGIN = "-----BEGIN PGP PUBLIC KEY BLOCK-----";
         private static final String END = "-----END PGP PUBLIC KEY BLOCK-----";
 
@@ -25,7 +25,7 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.apache.maven.artifact.versioning.ArtifactVersion;
-import org.apache.maven.dist.tools.JsoupRetry;
+import org.apache.maven.dist.tools.SessionCache;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
@@ -100,10 +100,16 @@ public class GetPrerequisites {
 
     private static final String BASEURL = "https://maven.apache.org/plugins/";
 
+    private final SessionCache sessionCache;
+
     /**
      * Get Prerequisites for the given plugin name.
+     *
+     * @param sessionCache the session cache used to read plugin info pages
      */
-    public GetPrerequisites() {}
+    public GetPrerequisites(SessionCache sessionCache) {
+        this.sessionCache = sessionCache;
+    }
 
     /**
      * <p>getPluginInfoUrl.</p>
@@ -125,7 +131,7 @@ public class GetPrerequisites {
     public PluginPrerequisites getPluginPrerequisites(String pluginName) throws IOException {
         String url = getPluginInfoUrl(pluginName);
 
-        Document doc = JsoupRetry.get(url);
+        Document doc = sessionCache.getDocument(url);
 
         String releaseDate = "?";
         Elements breadcrumbs = doc.select("div[id=breadcrumbs]"); // breadcrumbs
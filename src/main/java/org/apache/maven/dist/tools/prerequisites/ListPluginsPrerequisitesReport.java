@@ -18,13 +18,16 @@
  */
 package org.apache.maven.dist.tools.prerequisites;
 
+import javax.inject.Inject;
+
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
+import org.apache.maven.dist.tools.AbstractDistToolReport;
+import org.apache.maven.dist.tools.SessionCache;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.plugins.annotations.Mojo;
-import org.apache.maven.reporting.AbstractMavenReport;
 import org.apache.maven.reporting.MavenReportException;
 
 /**
@@ -33,9 +36,12 @@ import org.apache.maven.reporting.MavenReportException;
  * @author Karl Heinz Marbaise
  */
 @Mojo(name = "list-plugins-prerequisites", requiresProject = false)
-public class ListPluginsPrerequisitesReport extends AbstractMavenReport {
+public class ListPluginsPrerequisitesReport extends AbstractDistToolReport {
     private static final String GITHUB_URL = "https://github.com/apache/";
 
+    @Inject
+    private SessionCache sessionCache;
+
     /**
      * List Plugins Prerequisites Report
      */
@@ -55,12 +61,12 @@ public class ListPluginsPrerequisitesReport extends AbstractMavenReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void renderReport(Locale locale) throws MavenReportException {
         if (!outputDirectory.exists()) {
             outputDirectory.mkdirs();
         }
 
-        GetPrerequisites prerequisites = new GetPrerequisites();
+        GetPrerequisites prerequisites = new GetPrerequisites(sessionCache);
 
         Sink sink = getSink();
 
@@ -25,9 +25,6 @@ import org.apache.maven.dist.tools.AbstractCheckResult;
 import org.apache.maven.dist.tools.AbstractDistCheckReport;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
 import org.apache.maven.doxia.sink.Sink;
-import org.jsoup.nodes.Comment;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Node;
 
 class CheckSiteResult extends AbstractCheckResult {
     private String url;
@@ -120,19 +117,18 @@ class CheckSiteResult extends AbstractCheckResult {
         return comment.contains(skinName);
     }
 
-    void setDocument(Document doc) {
-        comment = extractComment(doc);
-        statusCode = (doc == null) ? -1 : DistCheckSiteReport.HTTP_OK;
+    void setComment(String comment) {
+        this.comment = comment;
+        statusCode = DistCheckSiteReport.HTTP_OK;
     }
 
-    static String extractComment(Document document) {
-        for (Node node : document.childNodes()) {
-            if (node instanceof Comment) {
-                return ((Comment) node).getData();
-            }
-        }
+    String getComment() {
+        return comment;
+    }
 
-        return "";
+    void setPage(SitePage page) {
+        setComment(page.getComment());
+        checkMap.putAll(page.getChecks());
     }
 
     void setScreenShot(String fileName) {
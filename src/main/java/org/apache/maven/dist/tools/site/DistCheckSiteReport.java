@@ -18,28 +18,26 @@
  */
 package org.apache.maven.dist.tools.site;
 
-import java.util.LinkedList;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
-import org.apache.maven.artifact.Artifact;
-import org.apache.maven.artifact.factory.ArtifactFactory;
-import org.apache.maven.artifact.repository.ArtifactRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.maven.dist.tools.AbstractDistCheckReport;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
-import org.apache.maven.dist.tools.JsoupRetry;
+import org.apache.maven.dist.tools.SiteUrlResolver;
+import org.apache.maven.dist.tools.http.HostUnavailableException;
+import org.apache.maven.dist.tools.http.HttpStatusException;
+import org.apache.maven.dist.tools.jfr.HtmlCheckEvent;
 import org.apache.maven.doxia.sink.Sink;
-import org.apache.maven.execution.MavenSession;
-import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.apache.maven.project.DefaultProjectBuildingRequest;
-import org.apache.maven.project.MavenProject;
-import org.apache.maven.project.ProjectBuilder;
-import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.reporting.MavenReportException;
-import org.jsoup.HttpStatusException;
-import org.jsoup.nodes.Document;
 
 /**
  * <p>DistCheckSiteReport class.</p>
@@ -47,7 +45,7 @@ import org.jsoup.nodes.Document;
  * @author skygo
  */
 @Mojo(name = "check-site", requiresProject = false)
-public class DistCheckSiteReport extends AbstractDistCheckReport {
+public class DistCheckSiteReport extends AbstractDistCheckReport<CheckSiteResult> {
     /** Constant <code>FAILURES_FILENAME="check-site.log"</code> */
     public static final String FAILURES_FILENAME = "check-site.log";
 
@@ -63,25 +61,9 @@ public class DistCheckSiteReport extends AbstractDistCheckReport {
     protected List<String> ignoreSiteFailures;
 
     /**
-     * Artifact factory.
+     * Site url inherited from parent POMs, when not configured.
      */
-    @Component
-    protected ArtifactFactory artifactFactory;
-
-    /**
-     * Local repository.
-     */
-    @Parameter(defaultValue = "${localRepository}", required = true, readonly = true)
-    protected ArtifactRepository localRepository;
-
-    /**
-     * Maven project builder.
-     */
-    @Component
-    protected ProjectBuilder projectBuilder;
-
-    @Parameter(defaultValue = "${session}", readonly = true, required = true)
-    protected MavenSession session;
+    SiteUrlResolver siteUrlResolver;
 
     /**
      * Http status ok code.
@@ -115,19 +97,25 @@ public class DistCheckSiteReport extends AbstractDistCheckReport {
         return "Verification of documentation site corresponding to artifact";
     }
 
-    // keep result
-    private List<CheckSiteResult> results = new LinkedList<>();
     private final List<HTMLChecker> checkers = HTMLCheckerFactory.getCheckers();
 
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void check() throws MavenReportException {
         if (!outputDirectory.exists()) {
             outputDirectory.mkdirs();
         }
 
+        siteUrlResolver = new SiteUrlResolver(transport, sessionCache, repoBaseUrl);
+
         prepareReportData();
+    }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void renderReport(Locale locale) throws MavenReportException {
         Sink sink = getSink();
         sink.head();
         sink.title();
@@ -185,37 +173,7 @@ public class DistCheckSiteReport extends AbstractDistCheckReport {
                 sink.tableRow_();
             }
 
-            sink.tableRow();
-            sink.tableCell();
-            sink.anchor(cli.getArtifactId());
-            sink.rawText(cli.getArtifactId());
-            sink.anchor_();
-            sink.tableCell_();
-
-            sink.tableCell();
-            sink.rawText(csr.getVersion());
-            sink.tableCell_();
-
-            sink.tableCell();
-            sink.rawText(cli.getReleaseDateFromMetadata());
-            sink.tableCell_();
-            sink.tableCell();
-            if (csr.getStatusCode() != HTTP_OK) {
-                iconError(sink);
-                sink.rawText("[" + csr.getStatusCode() + "] ");
-            }
-            sink.link(csr.getUrl());
-            sink.rawText(getSimplifiedUrl(csr.getUrl()));
-            sink.link_();
-            sink.lineBreak();
-            csr.renderDetectedSkin(sink);
-            sink.tableCell_();
-
-            sink.tableCell();
-            csr.renderDisplayedArtifactVersion(sink);
-            sink.tableCell_();
-
-            sink.tableRow_();
+            reportLine(sink, csr);
         }
         sink.tableRows_();
         sink.table_();
@@ -224,54 +182,199 @@ public class DistCheckSiteReport extends AbstractDistCheckReport {
         sink.close();
     }
 
+    /**
+     * Render the row of an artifact.
+     *
+     * @param sink the sink
+     * @param csr the site check result of the artifact
+     */
+    void reportLine(Sink sink, CheckSiteResult csr) {
+        ConfigurationLineInfo cli = csr.getConfigurationLine();
+        sink.tableRow();
+        sink.tableCell();
+        sink.anchor(cli.getArtifactId());
+        sink.rawText(cli.getArtifactId());
+        sink.anchor_();
+        sink.tableCell_();
+
+        sink.tableCell();
+        sink.rawText(csr.getVersion());
+        sink.tableCell_();
+
+        sink.tableCell();
+        sink.rawText(cli.getReleaseDateFromMetadata());
+        sink.tableCell_();
+        sink.tableCell();
+        if (csr.getUnavailableHost() != null) {
+            iconError(sink);
+            sink.text("[host unavailable] ");
+        } else if (csr.getUrl() == null) {
+            // the site url could not be resolved
+            iconError(sink);
+            sink.text("site url unknown");
+        } else if (csr.getStatusCode() != HTTP_OK) {
+            iconError(sink);
+            sink.rawText("[" + csr.getStatusCode() + "] ");
+        }
+        if (csr.getUrl() != null) {
+            sink.link(csr.getUrl());
+            sink.rawText(getSimplifiedUrl(csr.getUrl()));
+            sink.link_();
+        }
+        sink.lineBreak();
+        csr.renderDetectedSkin(sink);
+        sink.tableCell_();
+
+        sink.tableCell();
+        csr.renderDisplayedArtifactVersion(sink);
+        sink.tableCell_();
+
+        sink.tableRow_();
+    }
+
     private String getSimplifiedUrl(String url) {
-        return url.replace("://maven.apache.org", "://m.a.o");
+        return url == null ? null : url.replace("://maven.apache.org", "://m.a.o");
     }
 
-    private void checkSite(ConfigurationLineInfo cli, String version) {
+    private CheckSiteResult checkSite(ConfigurationLineInfo cli, String version) {
         CheckSiteResult result = new CheckSiteResult(cli, version);
-        results.add(result);
         try {
-            Artifact artifact = artifactFactory.createProjectArtifact(cli.getGroupId(), cli.getArtifactId(), version);
-            ProjectBuildingRequest request = new DefaultProjectBuildingRequest(session.getProjectBuildingRequest());
-            request.setRemoteRepositories(artifactRepositories);
-            request.setLocalRepository(localRepository);
-            request.setProcessPlugins(false);
-            MavenProject artifactProject =
-                    projectBuilder.build(artifact, false, request).getProject();
-
             String siteUrl = sites.get(cli.getArtifactId());
             if (siteUrl == null) {
                 siteUrl = sites.get(cli.getArtifactId() + ':' + version);
                 if (siteUrl == null) {
-                    siteUrl = artifactProject.getUrl();
+                    siteUrl = siteUrlResolver.resolve(cli.getGroupId(), cli.getArtifactId(), version);
                 }
             }
-
-            result.setUrl(siteUrl);
-            Document doc = JsoupRetry.get(siteUrl);
-            for (HTMLChecker c : checkers) {
-                result.getCheckMap().put(c, c.isDisplayedArtifactVersionOk(doc, version));
+            if (siteUrl == null) {
+                throw new IOException("no site url in the POM of ");
             }
-            result.setDocument(doc);
 
+            result.setUrl(siteUrl);
+            result.setPage(scan(cli, siteUrl, version));
         } catch (HttpStatusException hes) {
-            addErrorLine(
+            addFailure(
                     cli,
                     version,
                     ignoreSiteFailures,
+                    "site",
+                    hes.getUrl(),
                     "HTTP result code: " + hes.getStatusCode() + " for " + cli.getArtifactId() + " site = "
-                            + hes.getUrl());
+                            + hes.getUrl(),
+                    List.of());
             result.setHTTPErrorUrl(hes.getStatusCode());
+        } catch (HostUnavailableException hue) {
+            addFailure(
+                    cli,
+                    version,
+                    ignoreSiteFailures,
+                    "host-unavailable",
+                    null,
+                    cli.getArtifactId() + " site: " + hue.getMessage(),
+                    List.of());
+            result.setUnavailableHost(hue.getHost());
         } catch (Exception ex) {
             // continue for  other artifact
             getLog().error(ex.getMessage() + cli.getArtifactId());
         }
+        return result;
+    }
+
+    /**
+     * Scan the site page with every checker in one pass, each checker being recorded as an event until decided.
+     */
+    private SitePage scan(ConfigurationLineInfo cli, String url, String version) throws IOException {
+        Map<HTMLChecker, HtmlCheckEvent> events = new HashMap<>();
+        for (HTMLChecker checker : checkers) {
+            HtmlCheckEvent event = new HtmlCheckEvent();
+            event.begin();
+            events.put(checker, event);
+        }
+        // reading stops once every checker is decided: the rest of the page is not downloaded
+        try (Reader html = transport.openReader(url)) {
+            return SitePage.scan(
+                    html,
+                    url,
+                    checkers,
+                    version,
+                    (checker, ok) -> commit(events.remove(checker), cli, url, checker, ok ? "ok" : "ko"));
+        } catch (IOException | RuntimeException e) {
+            events.forEach((checker, event) -> commit(event, cli, url, checker, String.valueOf(e.getMessage())));
+            throw e;
+        }
+    }
+
+    private void commit(
+            HtmlCheckEvent event, ConfigurationLineInfo cli, String url, HTMLChecker checker, String outcome) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.mojo = getOutputName();
+            event.artifact = cli.getGroupId() + ':' + cli.getArtifactId();
+            event.url = url;
+            event.checker = checker.getName();
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected CheckSiteResult newResult(ConfigurationLineInfo line, String version) {
+        return new CheckSiteResult(line, version);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected CheckSiteResult checkArtifact(ConfigurationLineInfo configLine, String latestVersion) {
+        return checkSite(configLine, latestVersion);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isIncremental() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<String> getIgnore(String check) {
+        return ignoreSiteFailures;
+    }
+
+    /**
+     * Only successful checks are saved: a missing site is usually published after the release.
+     */
+    @Override
+    protected JsonNode saveOutcome(CheckSiteResult result) {
+        if (result.getStatusCode() != HTTP_OK || !result.getCheckMap().containsValue(Boolean.TRUE)) {
+            return null;
+        }
+        ObjectNode outcome = MAPPER.createObjectNode();
+        outcome.put("url", result.getUrl());
+        outcome.put("comment", result.getComment());
+        outcome.put("screenshot", result.getScreenShot());
+        ObjectNode checks = outcome.putObject("checks");
+        for (Map.Entry<HTMLChecker, Boolean> e : result.getCheckMap().entrySet()) {
+            checks.put(e.getKey().getName(), e.getValue());
+        }
+        return outcome;
     }
 
     /** {@inheritDoc} */
     @Override
-    protected void checkArtifact(ConfigurationLineInfo configLine, String latestVersion) {
-        checkSite(configLine, latestVersion);
+    protected CheckSiteResult restoreOutcome(ConfigurationLineInfo line, String version, JsonNode outcome) {
+        CheckSiteResult result = new CheckSiteResult(line, version);
+        result.setUrl(outcome.path("url").asText(null));
+        result.setComment(outcome.path("comment").asText(""));
+        result.setScreenShot(outcome.path("screenshot").asText(null));
+        for (HTMLChecker c : checkers) {
+            JsonNode check = outcome.path("checks").get(c.getName());
+            if (check == null) {
+                // checkers changed since previous run
+                return null;
+            }
+            result.getCheckMap().put(c, check.asBoolean());
+        }
+        return result.getUrl() == null ? null : result;
     }
 }
@@ -18,7 +18,7 @@
  */
 package org.apache.maven.dist.tools.site;
 
-import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 
 /**
  * <p>HTMLChecker interface.</p>
@@ -42,11 +42,12 @@ public interface HTMLChecker {
     String getSkin();
 
     /**
-     * Checks if the documents represents the provided artifact version.
+     * Checks if an element of the document represents the provided artifact version. Elements are fed while the
+     * document is parsed, in the order they end: children before their parent.
      *
-     * @param doc html document
+     * @param element html element, complete with its children
      * @param version version to check against
-     * @return true if version is found
+     * @return true if version is found, false if not, or <code>null</code> while undecided
      */
-    boolean isDisplayedArtifactVersionOk(Document doc, String version);
+    Boolean isDisplayedArtifactVersionOk(Element element, String version);
 }
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.site;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.parser.Parser;
+import org.jsoup.parser.StreamParser;
+
+/**
+ * Facts of a site page, extracted in one streaming parse: the generator comment, which names the skin, and the outcome
+ * of every checker. Parsing stops as soon as everything is decided, and the parsed document is not kept.
+ * <p>
+ * Once the comment names the skin of some checkers, checkers of other skins are decided negatively: otherwise
+ * they would wait for an element that is never rendered, until the end of the page.
+ */
+final class SitePage {
+    private final String comment;
+
+    private final Map<HTMLChecker, Boolean> checks;
+
+    private SitePage(String comment, Map<HTMLChecker, Boolean> checks) {
+        this.comment = comment;
+        this.checks = Collections.unmodifiableMap(checks);
+    }
+
+    /**
+     * Scan a site page.
+     *
+     * @param html the page content
+     * @param url the page url
+     * @param checkers the checkers to evaluate
+     * @param version version to check against
+     * @param decision notified of each checker outcome, as soon as it is decided
+     * @return the facts of the page
+     * @throws IOException if the page cannot be read
+     */
+    static SitePage scan(
+            Reader html,
+            String url,
+            List<HTMLChecker> checkers,
+            String version,
+            BiConsumer<HTMLChecker, Boolean> decision)
+            throws IOException {
+        Map<HTMLChecker, Boolean> checks = new LinkedHashMap<>();
+        List<HTMLChecker> pending = new ArrayList<>(checkers);
+        String comment = null;
+        try (StreamParser parser = new StreamParser(Parser.htmlParser()).parse(html, url)) {
+            Iterator<Element> elements = parser.iterator();
+            while ((comment == null || !pending.isEmpty()) && elements.hasNext()) {
+                Element element = elements.next();
+                if (comment == null) {
+                    // first element is in the head: leading comments are already parsed
+                    comment = extractComment(parser.document());
+                    decideOtherSkins(comment, pending, checks, decision);
+                }
+                for (Iterator<HTMLChecker> it = pending.iterator(); it.hasNext(); ) {
+                    HTMLChecker checker = it.next();
+                    Boolean ok = checker.isDisplayedArtifactVersionOk(element, version);
+                    if (ok != null) {
+                        decide(checks, checker, ok, decision);
+                        it.remove();
+                    }
+                }
+            }
+        } catch (UncheckedIOException uioe) {
+            throw uioe.getCause();
+        }
+        for (HTMLChecker checker : pending) {
+            decide(checks, checker, false, decision);
+        }
+        return new SitePage(comment == null ? "" : comment, checks);
+    }
+
+    private static void decideOtherSkins(
+            String comment,
+            List<HTMLChecker> pending,
+            Map<HTMLChecker, Boolean> checks,
+            BiConsumer<HTMLChecker, Boolean> decision) {
+        if (pending.stream().noneMatch(c -> comment.contains(c.getSkin()))) {
+            // skin not determined
+            return;
+        }
+        for (Iterator<HTMLChecker> it = pending.iterator(); it.hasNext(); ) {
+            HTMLChecker checker = it.next();
+            if (!comment.contains(checker.getSkin())) {
+                decide(checks, checker, false, decision);
+                it.remove();
+            }
+        }
+    }
+
+    private static void decide(
+            Map<HTMLChecker, Boolean> checks,
+            HTMLChecker checker,
+            boolean ok,
+            BiConsumer<HTMLChecker, Boolean> decision) {
+        checks.put(checker, ok);
+        decision.accept(checker, ok);
+    }
+
+    /**
+     * Extract the first comment at document level, where Doxia writes the generator and skin.
+     *
+     * @param document the document, possibly partially parsed
+     * @return the comment, or an empty string
+     */
+    static String extractComment(Document document) {
+        for (Node node : document.childNodes()) {
+            if (node instanceof Comment) {
+                return ((Comment) node).getData();
+            }
+        }
+
+        return "";
+    }
+
+    /**
+     * <p>Getter for the field <code>comment</code>.</p>
+     *
+     * @return the generator comment, or an empty string
+     */
+    String getComment() {
+        return comment;
+    }
+
+    /**
+     * <p>Getter for the field <code>checks</code>.</p>
+     *
+     * @return the outcome of each checker
+     */
+    Map<HTMLChecker, Boolean> getChecks() {
+        return checks;
+    }
+}
@@ -19,8 +19,9 @@
 package org.apache.maven.dist.tools.site.checkers;
 
 import org.apache.maven.dist.tools.site.HTMLChecker;
-import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
 /**
  * Check if artifact version is present in fluido skin.
@@ -28,6 +29,8 @@ import org.jsoup.nodes.Element;
  * @author skygo
  */
 public class FluidoHTMLChecker implements HTMLChecker {
+    private static final Evaluator VERSION = QueryParser.parse("li#projectVersion");
+
     /**
      * Fluido Html Checker
      */
@@ -47,8 +50,7 @@ public class FluidoHTMLChecker implements HTMLChecker {
 
     /** {@inheritDoc} */
     @Override
-    public boolean isDisplayedArtifactVersionOk(Document doc, String version) {
-        Element links = doc.select("li#projectVersion").first();
-        return (links != null) && links.text().contains(version);
+    public Boolean isDisplayedArtifactVersionOk(Element element, String version) {
+        return element.is(VERSION) ? element.text().contains(version) : null;
     }
 }
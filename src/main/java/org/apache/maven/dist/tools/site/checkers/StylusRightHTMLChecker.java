@@ -19,8 +19,9 @@
 package org.apache.maven.dist.tools.site.checkers;
 
 import org.apache.maven.dist.tools.site.HTMLChecker;
-import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
 
 /**
  * Check if artifact version is present on right side in stylus skin.
@@ -28,6 +29,8 @@ import org.jsoup.nodes.Element;
  * @author skygo
  */
 public class StylusRightHTMLChecker implements HTMLChecker {
+    private static final Evaluator VERSION = QueryParser.parse("div.xright");
+
     /**
      * Stylus Right Html Checker
      */
@@ -47,9 +50,7 @@ public class StylusRightHTMLChecker implements HTMLChecker {
 
     /** {@inheritDoc} */
     @Override
-    public boolean isDisplayedArtifactVersionOk(Document doc, String version) {
-        Element links = doc.select("div.xright").first();
-
-        return (links != null) && links.text().contains(version);
+    public Boolean isDisplayedArtifactVersionOk(Element element, String version) {
+        return element.is(VERSION) ? element.text().contains(version) : null;
     }
 }
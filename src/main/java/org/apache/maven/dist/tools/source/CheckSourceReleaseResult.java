@@ -22,12 +22,15 @@ import java.util.List;
 
 import org.apache.maven.dist.tools.AbstractCheckResult;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
+import org.apache.maven.dist.tools.http.ResourceInfo;
 
 class CheckSourceReleaseResult extends AbstractCheckResult {
 
     List<String> central;
     List<String> dist;
     List<String> distOlder;
+    List<ResourceInfo> centralProbes;
+    List<String> centralErrors = List.of();
 
     CheckSourceReleaseResult(ConfigurationLineInfo r, String version) {
         super(r, version);
@@ -44,4 +47,28 @@ class CheckSourceReleaseResult extends AbstractCheckResult {
     void setDistOlderSourceRelease(List<String> checkRepos) {
         distOlder = checkRepos;
     }
+
+    void setCentralProbes(List<ResourceInfo> probes) {
+        centralProbes = probes;
+    }
+
+    void setCentralErrors(List<String> errors) {
+        centralErrors = errors;
+    }
+
+    /**
+     * Size of the source release in Central, known when checked with <code>HEAD</code> requests.
+     *
+     * @return the size in bytes, or <code>-1</code> if unknown
+     */
+    long getCentralSourceReleaseSize() {
+        if (centralProbes != null) {
+            for (ResourceInfo probe : centralProbes) {
+                if (probe.exists() && probe.url().endsWith(".zip")) {
+                    return probe.contentLength();
+                }
+            }
+        }
+        return -1;
+    }
 }
@@ -20,28 +20,37 @@ package org.apache.maven.dist.tools.source;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.io.FileUtils;
 import org.apache.maven.artifact.versioning.DefaultArtifactVersion;
 import org.apache.maven.dist.tools.AbstractDistCheckReport;
 import org.apache.maven.dist.tools.ConfigurationLineInfo;
-import org.apache.maven.dist.tools.JsoupRetry;
+import org.apache.maven.dist.tools.DirectoryListing;
+import org.apache.maven.dist.tools.http.FetchTimings;
+import org.apache.maven.dist.tools.http.HostUnavailableException;
+import org.apache.maven.dist.tools.http.ResourceInfo;
 import org.apache.maven.doxia.markup.HtmlMarkup;
 import org.apache.maven.doxia.sink.Sink;
 import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.reporting.MavenReportException;
-import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 
 /**
  * Check presence of source-release.zip in distribution area and central repo
@@ -49,7 +58,7 @@ import org.jsoup.select.Elements;
  * @author skygo
  */
 @Mojo(name = "check-source-release", requiresProject = false)
-public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
+public class DistCheckSourceReleaseReport extends AbstractDistCheckReport<CheckSourceReleaseResult> {
     private static final String NOT_IN_DISTRIBUTION_AREA = "_not_in_distribution_area_";
 
     /** Constant <code>FAILURES_FILENAME="check-source-release.log"</code> */
@@ -60,6 +69,13 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
      */
     public DistCheckSourceReleaseReport() {}
 
+    /**
+     * Check outcome saved for next runs.
+     */
+    record Outcome(List<String> central, List<String> dist, List<String> distOlder, List<ResourceInfo> centralProbes) {}
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     /** {@inheritDoc} */
     @Override
     protected boolean isIndexPageCheck() {
@@ -72,6 +88,13 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
     @Parameter
     protected List<String> ignoreDistFailures;
 
+    /**
+     * Check Central with concurrent <code>HEAD</code> requests for expected source release files, instead of reading
+     * the version directory listing. Files sizes are reported as a by-product.
+     */
+    @Parameter(defaultValue = "false", property = "dist-tool.central.probe")
+    protected boolean probeCentral;
+
     /**
      * <p>getFailuresFilename.</p>
      *
@@ -93,8 +116,6 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
         return "Verification of source release";
     }
 
-    private final List<CheckSourceReleaseResult> results = new LinkedList<>();
-
     private static class DirectoryStatistics {
         final String directory;
 
@@ -139,7 +160,7 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
         }
     }
 
-    private void reportLine(Sink sink, CheckSourceReleaseResult csrr) {
+    void reportLine(Sink sink, CheckSourceReleaseResult csrr) {
         ConfigurationLineInfo cli = csrr.getConfigurationLine();
 
         sink.tableRow();
@@ -163,6 +184,11 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
 
         // dist column
         sink.tableCell();
+        if (csrr.getUnavailableHost() != null) {
+            iconError(sink);
+            sink.text("host unavailable: " + csrr.getUnavailableHost());
+            sink.lineBreak();
+        }
         if (csrr.dist != null) {
             if (cli.isSrcBin()) {
                 String directory = csrr.getVersion() + "/source/";
@@ -221,8 +247,14 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
         sink.text(csrr.getVersion());
         sink.link_();
         sink.text("/(source-release)");
-        if (csrr.central.isEmpty()) {
+        if (csrr.getUnavailableHost() != null) {
+            iconWarning(sink);
+        } else if (csrr.central.isEmpty() && csrr.centralErrors.isEmpty()) {
             iconSuccess(sink);
+            long size = csrr.getCentralSourceReleaseSize();
+            if (size >= 0) {
+                sink.text(" (" + FileUtils.byteCountToDisplaySize(size) + ")");
+            }
         } else {
             iconWarning(sink);
         }
@@ -231,6 +263,11 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
             iconError(sink);
             sink.rawText(missing);
         }
+        for (String error : csrr.centralErrors) {
+            sink.lineBreak();
+            iconWarning(sink);
+            sink.text("not checked: " + error);
+        }
         sink.tableCell_();
 
         sink.tableCell_();
@@ -239,13 +276,17 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void executeReport(Locale locale) throws MavenReportException {
+    protected void check() throws MavenReportException {
         if (!outputDirectory.exists()) {
             outputDirectory.mkdirs();
         }
 
         prepareReportData();
+    }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void renderReport(Locale locale) throws MavenReportException {
         DirectoryStatistics stats = new DirectoryStatistics("", "org.apache.maven"); // global stats
 
         List<DirectoryStatistics> statistics = new ArrayList<>();
@@ -383,40 +424,58 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
         return "^" + artifact + "-([0-9].*)-source-release.*$";
     }
 
-    private String cachedUrl;
-
-    private Document cachedDocument;
-
-    private Document read(String url) throws IOException {
-        if (url.startsWith(distributionAreaUrl)) {
-            // distribution area: cache content, since it is read multiple times
-            if (!url.equals(cachedUrl)) {
-                cachedUrl = url;
-                cachedDocument = JsoupRetry.get(url);
-            }
-            return cachedDocument;
-        } else {
-            return JsoupRetry.get(url);
-        }
+    private DirectoryListing read(String url) throws IOException {
+        // distribution area is read once for every artifact
+        return url.startsWith(distributionAreaUrl)
+                ? sessionCache.getDistAreaSnapshot(distributionAreaUrl).getListing(url)
+                : DirectoryListing.read(transport.openStream(url));
     }
 
-    private Elements selectLinks(String repourl) throws IOException {
+    private DirectoryListing selectLinks(String repourl) throws IOException {
         try {
-            return read(repourl).select("a[href]");
+            return read(repourl);
+        } catch (HostUnavailableException hue) {
+            // not a failure of this url: the artifact is reported as incomplete
+            throw hue;
         } catch (IOException ioe) {
             throw new IOException("IOException while reading " + repourl, ioe);
         }
     }
 
     private List<String> checkContainsOld(String url, ConfigurationLineInfo cli, String version) throws IOException {
-        Elements links = selectLinks(url);
+        DirectoryListing listing = selectLinks(url);
+
+        List<String> retrievedOldFiles = findOldSourceReleases(listing.getHrefs(), cli, version);
+
+        if (!retrievedOldFiles.isEmpty()) {
+            // write the following output in red so it's more readable in jenkins console
+            addFailure(
+                    cli,
+                    version,
+                    ignoreDistFailures,
+                    "dist-older",
+                    url,
+                    "Different version than " + version + " for " + cli.getArtifactId() + " available in " + url,
+                    retrievedOldFiles);
+        }
+
+        return retrievedOldFiles;
+    }
 
+    /**
+     * Find source releases of other versions than the checked one.
+     *
+     * @param hrefs the links of a directory listing
+     * @param cli the artifact
+     * @param version the checked version
+     * @return the source release files of other versions, in the version range of the artifact if any
+     */
+    static List<String> findOldSourceReleases(Iterable<String> hrefs, ConfigurationLineInfo cli, String version) {
         String sourceReleaseFilename = cli.getSourceReleaseFilename(version, true);
         Pattern sourceReleasePattern = Pattern.compile(getSourceReleasePattern(cli.getArtifactId()));
 
         List<String> retrievedOldFiles = new LinkedList<>();
-        for (Element e : links) {
-            String retrievedFile = e.attr("href");
+        for (String retrievedFile : hrefs) {
             Matcher m = sourceReleasePattern.matcher(retrievedFile);
             if (m.matches()) {
                 if (cli.getVersionRange() != null) {
@@ -432,19 +491,6 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
                 }
             }
         }
-
-        if (!retrievedOldFiles.isEmpty()) {
-            // write the following output in red so it's more readable in jenkins console
-            addErrorLine(
-                    cli,
-                    version,
-                    ignoreDistFailures,
-                    "Different version than " + version + " for " + cli.getArtifactId() + " available in " + url);
-            for (String sourceItem : retrievedOldFiles) {
-                addErrorLine(cli, version, ignoreDistFailures, " > " + sourceItem + " <");
-            }
-        }
-
         return retrievedOldFiles;
     }
 
@@ -455,22 +501,108 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
      * @param cli
      * @param version
      * @return missing files
+     * @throws HostUnavailableException if the host of url is unavailable
      */
-    private List<String> checkDirectoryIndex(String url, ConfigurationLineInfo cli, String version, boolean dist) {
-        Set<String> retrievedFiles = new HashSet<>();
+    private List<String> checkDirectoryIndex(String url, ConfigurationLineInfo cli, String version, boolean dist)
+            throws HostUnavailableException {
+        Set<String> retrievedFiles = Collections.emptySet();
         List<String> missingFiles = new ArrayList<>();
 
         try {
-            Elements links = selectLinks(url);
-            for (Element e : links) {
-                retrievedFiles.add(e.attr("href"));
-            }
+            retrievedFiles = selectLinks(url).getHrefs();
+        } catch (HostUnavailableException hue) {
+            throw hue;
         } catch (IOException e) {
             missingFiles.add(url + ": " + e.getMessage());
         }
 
         String sourceReleaseFilename = cli.getSourceReleaseFilename(version, dist);
+        return checkReleaseFiles(
+                url, cli, version, dist ? "dist" : "central", sourceReleaseFilename, retrievedFiles, missingFiles);
+    }
 
+    /**
+     * Check that expected release files exist in url, with one concurrent <code>HEAD</code> request per file
+     *
+     * @param url
+     * @param cli
+     * @param version
+     * @param result where probes are recorded
+     * @return missing files
+     * @throws HostUnavailableException if the host of url is unavailable
+     */
+    private List<String> checkProbes(
+            String url, ConfigurationLineInfo cli, String version, CheckSourceReleaseResult result)
+            throws HostUnavailableException {
+        String sourceReleaseFilename = cli.getSourceReleaseFilename(version, false);
+        List<String> filenames = List.of(
+                sourceReleaseFilename,
+                sourceReleaseFilename + ".asc",
+                sourceReleaseFilename + ".sha1",
+                sourceReleaseFilename + ".sha512");
+
+        List<Future<ResourceInfo>> futures = new ArrayList<>(filenames.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String filename : filenames) {
+                futures.add(executor.submit(FetchTimings.withArtifact(() -> transport.probe(url + filename))));
+            }
+        }
+
+        // files found, or not checked because of a probe failure: only a 404 or 410 status means missing
+        Set<String> retrievedFiles = new HashSet<>();
+        List<String> errors = new ArrayList<>();
+        List<ResourceInfo> probes = new ArrayList<>(filenames.size());
+        for (int i = 0; i < filenames.size(); i++) {
+            try {
+                ResourceInfo probe = futures.get(i).get();
+                probes.add(probe);
+                if (probe.exists()) {
+                    retrievedFiles.add(filenames.get(i));
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof HostUnavailableException hue) {
+                    throw hue;
+                }
+                retrievedFiles.add(filenames.get(i));
+                errors.add(url + filenames.get(i) + ": " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                retrievedFiles.add(filenames.get(i));
+                errors.add(url + filenames.get(i) + ": interrupted");
+            }
+        }
+        result.setCentralProbes(probes);
+        result.setCentralErrors(errors);
+        if (!errors.isEmpty()) {
+            addFailure(
+                    cli,
+                    version,
+                    ignoreDistFailures,
+                    "central-probe",
+                    url,
+                    "Cannot check files of " + cli.getArtifactId() + " in " + url,
+                    errors);
+        }
+
+        if (getLog().isDebugEnabled()) {
+            for (ResourceInfo probe : probes) {
+                getLog().debug("HEAD " + probe.url() + ": " + probe.status() + ", " + probe.contentLength()
+                        + " bytes, last modified " + probe.lastModified());
+            }
+        }
+
+        return checkReleaseFiles(
+                url, cli, version, "central", sourceReleaseFilename, retrievedFiles, new ArrayList<>());
+    }
+
+    private List<String> checkReleaseFiles(
+            String url,
+            ConfigurationLineInfo cli,
+            String version,
+            String check,
+            String sourceReleaseFilename,
+            Set<String> retrievedFiles,
+            List<String> missingFiles) {
         // require source release file
         if (!retrievedFiles.contains(sourceReleaseFilename)) {
             missingFiles.add(sourceReleaseFilename);
@@ -486,11 +618,14 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
         }
 
         if (!missingFiles.isEmpty()) {
-            boolean error = addErrorLine(
-                    cli, version, ignoreDistFailures, "Missing file for " + cli.getArtifactId() + " in " + url);
-            for (String sourceItem : missingFiles) {
-                addErrorLine(cli, version, ignoreDistFailures, " > " + sourceItem + " <");
-            }
+            boolean error = addFailure(
+                    cli,
+                    version,
+                    ignoreDistFailures,
+                    check,
+                    url,
+                    "Missing file for " + cli.getArtifactId() + " in " + url,
+                    missingFiles);
             if (error) {
                 getLog().warn("==> when reading " + url + " got following hrefs: " + retrievedFiles);
             }
@@ -501,28 +636,109 @@ public class DistCheckSourceReleaseReport extends AbstractDistCheckReport {
 
     /** {@inheritDoc} */
     @Override
-    protected void checkArtifact(ConfigurationLineInfo configLine, String version) throws MavenReportException {
-        try {
-            CheckSourceReleaseResult result = new CheckSourceReleaseResult(configLine, version);
-            results.add(result);
+    protected CheckSourceReleaseResult newResult(ConfigurationLineInfo line, String version) {
+        CheckSourceReleaseResult result = new CheckSourceReleaseResult(line, version);
+        result.setMissingCentralSourceRelease(List.of());
+        return result;
+    }
 
+    /** {@inheritDoc} */
+    @Override
+    protected CheckSourceReleaseResult checkArtifact(ConfigurationLineInfo configLine, String version)
+            throws MavenReportException {
+        CheckSourceReleaseResult result = new CheckSourceReleaseResult(configLine, version);
+        try {
             // central
             String centralUrl = configLine.getVersionnedFolderURL(repoBaseUrl, version);
-            result.setMissingCentralSourceRelease(checkDirectoryIndex(centralUrl, configLine, version, false));
+            result.setMissingCentralSourceRelease(
+                    probeCentral
+                            ? checkProbes(centralUrl, configLine, version, result)
+                            : checkDirectoryIndex(centralUrl, configLine, version, false));
 
             if (NOT_IN_DISTRIBUTION_AREA.equals(configLine.getDirectory())) {
                 // no distribution check
-                return;
+                return result;
             }
 
             // dist
-            String distUrl = distributionAreaUrl
-                    + configLine.getDirectory()
-                    + (configLine.isSrcBin() ? ("/" + version + "/source") : "");
+            String distUrl = getDistUrl(configLine, version);
             result.setMissingDistSourceRelease(checkDirectoryIndex(distUrl, configLine, version, true));
             result.setDistOlderSourceRelease(checkContainsOld(distUrl, configLine, version));
+            return result;
+        } catch (HostUnavailableException hue) {
+            // keep going with other artifacts: this row is reported as incomplete
+            addFailure(
+                    configLine,
+                    version,
+                    ignoreDistFailures,
+                    "host-unavailable",
+                    null,
+                    configLine.getArtifactId() + ": " + hue.getMessage(),
+                    List.of());
+            result.setUnavailableHost(hue.getHost());
+            if (result.central == null) {
+                result.setMissingCentralSourceRelease(Collections.emptyList());
+            }
+            result.setMissingDistSourceRelease(null);
+            return result;
         } catch (IOException ex) {
             throw new MavenReportException(ex.getMessage(), ex);
         }
     }
+
+    private String getDistUrl(ConfigurationLineInfo cli, String version) {
+        return distributionAreaUrl + cli.getDirectory() + (cli.isSrcBin() ? ("/" + version + "/source") : "");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isIncremental() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected List<String> getIgnore(String check) {
+        return ignoreDistFailures;
+    }
+
+    /**
+     * Central content only changes with metadata, but distribution area directory changes with every commit.
+     */
+    @Override
+    protected String getFingerprint(ConfigurationLineInfo line, String version) throws IOException {
+        String mode = probeCentral ? "probe" : "listing";
+        if (NOT_IN_DISTRIBUTION_AREA.equals(line.getDirectory())) {
+            return mode;
+        }
+        DirectoryListing listing =
+                sessionCache.getDistAreaSnapshot(distributionAreaUrl).getListing(getDistUrl(line, version));
+        return mode + ':' + Integer.toHexString(String.join(" ", listing.getHrefs()).hashCode());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected JsonNode saveOutcome(CheckSourceReleaseResult result) {
+        if (!result.centralErrors.isEmpty()) {
+            // incomplete: check again on next run
+            return null;
+        }
+        return MAPPER.valueToTree(new Outcome(result.central, result.dist, result.distOlder, result.centralProbes));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected CheckSourceReleaseResult restoreOutcome(ConfigurationLineInfo line, String version, JsonNode outcome) {
+        try {
+            Outcome previous = MAPPER.treeToValue(outcome, Outcome.class);
+            CheckSourceReleaseResult result = new CheckSourceReleaseResult(line, version);
+            result.setMissingCentralSourceRelease(previous.central());
+            result.setMissingDistSourceRelease(previous.dist());
+            result.setDistOlderSourceRelease(previous.distOlder());
+            result.setCentralProbes(previous.centralProbes());
+            return result.central == null ? null : result;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.timings;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.dist.tools.http.FetchTimings;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.apache.maven.dist.tools.jfr.ReportEvent;
+import org.apache.maven.doxia.sink.Sink;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.reporting.AbstractMavenReport;
+import org.apache.maven.reporting.MavenReportException;
+
+/**
+ * Where the reports of the Maven session spent their time: slowest hosts, artifacts and reports, with latency
+ * percentiles and histograms, downloaded bytes, retries and cache hits. Must run after the other reports.
+ */
+@Mojo(name = "timings", requiresProject = false)
+public class TimingsReport extends AbstractMavenReport {
+    @Inject
+    private HttpTransport transport;
+
+    /**
+     * JSON dump of the timings, to compare runs.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/dist-tool/timings.json", property = "dist-tool.timings")
+    private File timingsFile;
+
+    /**
+     * Maximum number of artifacts and fetches listed.
+     */
+    @Parameter(defaultValue = "50", property = "dist-tool.timings.limit")
+    private int limit;
+
+    /**
+     * Timings Report
+     */
+    public TimingsReport() {}
+
+    /** {@inheritDoc} */
+    @Override
+    public String getOutputName() {
+        return "dist-tool-timings";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName(Locale locale) {
+        return "Dist Tool> Timings";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDescription(Locale locale) {
+        return "Latency of fetches by host, artifact and report during this run";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void executeReport(Locale locale) throws MavenReportException {
+        ReportEvent render = ReportEvent.start(getOutputName(), "render");
+        Throwable failure = null;
+        try {
+            renderReport();
+        } catch (MavenReportException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            render.finish(failure);
+        }
+    }
+
+    private void renderReport() throws MavenReportException {
+        FetchTimings.Summary summary = transport.getTimings().summarize(limit);
+        try {
+            FetchTimings.write(summary, timingsFile);
+        } catch (IOException e) {
+            throw new MavenReportException("cannot write " + timingsFile, e);
+        }
+
+        Sink sink = getSink();
+        sink.head();
+        sink.title();
+        sink.text("Dist Tool> Timings");
+        sink.title_();
+        sink.head_();
+        sink.body();
+
+        sink.paragraph();
+        sink.text("Timings of this run, also written to " + timingsFile + ". Durations are in milliseconds.");
+        sink.paragraph_();
+
+        renderStats(sink, "Hosts", summary.hosts());
+        renderStats(sink, "Reports", summary.mojos());
+        renderStats(sink, "Slowest Artifacts", summary.artifacts());
+        renderSlowest(sink, summary.slowest());
+
+        sink.body_();
+        sink.flush();
+        sink.close();
+    }
+
+    private void renderStats(Sink sink, String title, List<FetchTimings.Stats> stats) {
+        sink.section2();
+        sink.sectionTitle2();
+        sink.text(title);
+        sink.sectionTitle2_();
+
+        sink.table();
+        sink.tableRows(null, false);
+        sink.tableRow();
+        header(sink, "Name");
+        header(sink, "Duration");
+        header(sink, "Fetches");
+        header(sink, "p50");
+        header(sink, "p90");
+        header(sink, "p99");
+        header(sink, "Max");
+        header(sink, "Size");
+        header(sink, "Retries");
+        header(sink, "Cache Hits");
+        header(sink, "Failures");
+        header(sink, "Latency Histogram");
+        sink.tableRow_();
+        for (FetchTimings.Stats stat : stats) {
+            sink.tableRow();
+            cell(sink, stat.name());
+            cell(sink, String.valueOf(stat.millis()));
+            cell(sink, String.valueOf(stat.requests()));
+            cell(sink, String.valueOf(stat.p50()));
+            cell(sink, String.valueOf(stat.p90()));
+            cell(sink, String.valueOf(stat.p99()));
+            cell(sink, String.valueOf(stat.max()));
+            cell(sink, FileUtils.byteCountToDisplaySize(stat.bytes()));
+            cell(sink, String.valueOf(stat.retries()));
+            cell(sink, String.valueOf(stat.cacheHits()));
+            cell(sink, String.valueOf(stat.failures()));
+            cell(sink, histogram(stat.histogram()));
+            sink.tableRow_();
+        }
+        sink.tableRows_();
+        sink.table_();
+
+        sink.section2_();
+    }
+
+    private void renderSlowest(Sink sink, List<FetchTimings.Fetch> fetches) {
+        sink.section2();
+        sink.sectionTitle2();
+        sink.text("Slowest Fetches");
+        sink.sectionTitle2_();
+
+        sink.table();
+        sink.tableRows(null, false);
+        sink.tableRow();
+        header(sink, "URL");
+        header(sink, "Report");
+        header(sink, "Artifact");
+        header(sink, "Duration");
+        header(sink, "Size");
+        header(sink, "Retries");
+        header(sink, "Cache");
+        header(sink, "Status");
+        sink.tableRow_();
+        for (FetchTimings.Fetch fetch : fetches) {
+            sink.tableRow();
+            sink.tableCell();
+            sink.text(fetch.method() + ' ');
+            sink.link(fetch.url());
+            sink.text(fetch.url());
+            sink.link_();
+            sink.tableCell_();
+            cell(sink, fetch.mojo());
+            cell(sink, fetch.artifact());
+            cell(sink, String.valueOf(fetch.millis()));
+            cell(sink, FileUtils.byteCountToDisplaySize(fetch.bytes()));
+            cell(sink, String.valueOf(fetch.retries()));
+            cell(sink, fetch.cache());
+            cell(sink, fetch.failure() != null ? fetch.failure() : String.valueOf(fetch.status()));
+            sink.tableRow_();
+        }
+        sink.tableRows_();
+        sink.table_();
+
+        sink.section2_();
+    }
+
+    private static String histogram(Map<String, Integer> histogram) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Integer> bucket : histogram.entrySet()) {
+            if (bucket.getValue() > 0) {
+                sb.append(sb.length() > 0 ? ", " : "").append(bucket.getKey()).append(": ").append(bucket.getValue());
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void header(Sink sink, String text) {
+        sink.tableHeaderCell();
+        sink.text(text);
+        sink.tableHeaderCell_();
+    }
+
+    private static void cell(Sink sink, String text) {
+        sink.tableCell();
+        if (text != null) {
+            sink.text(text);
+        }
+        sink.tableCell_();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.scale;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.apache.maven.dist.tools.jfr.ReportEvent;
+import org.apache.maven.doxia.sink.Sink;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.reporting.AbstractMavenReport;
+import org.apache.maven.reporting.MavenReportException;
+
+/**
+ * Runs on the artifacts of {@link SyntheticServerMojo}, compared as the number of artifacts grows. Must run after the
+ * check reports.
+ */
+@Mojo(name = "scale", requiresProject = false)
+public class ScaleReport extends AbstractMavenReport {
+    @Inject
+    private HttpTransport transport;
+
+    /**
+     * Runs on synthetic artifacts, one JSON line per run, to compare runs as the number of artifacts grows.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/dist-tool/scale.ndjson", property = "dist-tool.scale")
+    private File scaleFile;
+
+    /** {@inheritDoc} */
+    @Override
+    public String getOutputName() {
+        return "dist-tool-scale";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName(Locale locale) {
+        return "Dist Tool> Scale";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getDescription(Locale locale) {
+        return "Wall time, requests and peak heap of runs on synthetic artifacts";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void executeReport(Locale locale) throws MavenReportException {
+        ReportEvent render = ReportEvent.start(getOutputName(), "render");
+        Throwable failure = null;
+        try {
+            renderReport();
+        } catch (MavenReportException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            render.finish(failure);
+        }
+    }
+
+    private void renderReport() throws MavenReportException {
+        if (!(transport.getStandIn() instanceof SyntheticServer server)) {
+            throw new MavenReportException("no synthetic server: run synthetic-server goal before the check reports");
+        }
+        ScaleRun run = ScaleRun.measure(server);
+        getLog().info("Synthetic run: " + run);
+        List<ScaleRun> runs;
+        try {
+            run.append(scaleFile);
+            runs = ScaleRun.readAll(scaleFile);
+        } catch (IOException e) {
+            throw new MavenReportException("cannot write " + scaleFile, e);
+        }
+
+        Sink sink = getSink();
+        sink.head();
+        sink.title();
+        sink.text("Dist Tool> Scale");
+        sink.title_();
+        sink.head_();
+        sink.body();
+        renderScale(sink, runs);
+        sink.body_();
+    }
+
+    private void renderScale(Sink sink, List<ScaleRun> runs) {
+        sink.section2();
+        sink.sectionTitle2();
+        sink.text("Synthetic Runs");
+        sink.sectionTitle2_();
+
+        sink.paragraph();
+        sink.text("Runs on synthetic artifacts, also written to " + scaleFile + ".");
+        sink.paragraph_();
+
+        sink.table();
+        sink.tableRows(null, false);
+        sink.tableRow();
+        header(sink, "Artifacts");
+        header(sink, "Latency");
+        header(sink, "Jitter");
+        header(sink, "Error Rate");
+        header(sink, "Bandwidth");
+        header(sink, "Wall Time");
+        header(sink, "Requests");
+        header(sink, "Errors");
+        header(sink, "Size");
+        header(sink, "Peak Heap");
+        sink.tableRow_();
+        for (ScaleRun run : runs) {
+            sink.tableRow();
+            cell(sink, String.valueOf(run.artifacts()));
+            cell(sink, String.valueOf(run.latencyMillis()));
+            cell(sink, String.valueOf(run.jitterMillis()));
+            cell(sink, String.valueOf(run.errorRate()));
+            cell(sink, run.bytesPerSecond() == 0 ? "-" : FileUtils.byteCountToDisplaySize(run.bytesPerSecond()) + "/s");
+            cell(sink, String.valueOf(run.wallMillis()));
+            cell(sink, String.valueOf(run.requests()));
+            cell(sink, String.valueOf(run.errors()));
+            cell(sink, FileUtils.byteCountToDisplaySize(run.bytes()));
+            cell(sink, FileUtils.byteCountToDisplaySize(run.peakHeap()));
+            sink.tableRow_();
+        }
+        sink.tableRows_();
+        sink.table_();
+
+        sink.section2_();
+    }
+
+
+    private static void header(Sink sink, String text) {
+        sink.tableHeaderCell();
+        sink.text(text);
+        sink.tableHeaderCell_();
+    }
+
+    private static void cell(Sink sink, String text) {
+        sink.tableCell();
+        sink.text(text);
+        sink.tableCell_();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.scale;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Outcome of a run on synthetic artifacts, one JSON line per run, to compare runs as the number of artifacts grows.
+ *
+ * @param artifacts the number of synthetic artifacts
+ * @param latencyMillis the simulated latency, in milliseconds
+ * @param jitterMillis the simulated jitter, in milliseconds
+ * @param errorRate the ratio of failed requests
+ * @param bytesPerSecond the simulated bandwidth, or <code>0</code> for unlimited
+ * @param wallMillis the time since the synthetic server started, in milliseconds
+ * @param requests the number of requests received by the synthetic server
+ * @param errors the number of requests failed on purpose
+ * @param bytes the content size sent by the synthetic server
+ * @param peakHeap the peak heap usage, summed over heap memory pools
+ */
+public record ScaleRun(
+        int artifacts,
+        long latencyMillis,
+        long jitterMillis,
+        double errorRate,
+        long bytesPerSecond,
+        long wallMillis,
+        long requests,
+        long errors,
+        long bytes,
+        long peakHeap) {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final ObjectReader READER = MAPPER.readerFor(ScaleRun.class);
+
+    /**
+     * Measure the run so far.
+     *
+     * @param server the synthetic server of the run
+     * @return the measures
+     */
+    public static ScaleRun measure(SyntheticServer server) {
+        SyntheticServer.Conditions conditions = server.getConditions();
+        return new ScaleRun(
+                server.getArtifacts(),
+                conditions.latencyMillis(),
+                conditions.jitterMillis(),
+                conditions.errorRate(),
+                conditions.bytesPerSecond(),
+                server.getElapsedMillis(),
+                server.getRequests(),
+                server.getErrors(),
+                server.getBytes(),
+                measurePeakHeap());
+    }
+
+    /**
+     * Forget heap usage peaks, to measure a run only.
+     */
+    public static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+    private static long measurePeakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * Append this run to a file.
+     *
+     * @param file the JSON lines file
+     * @throws IOException if the file cannot be written
+     */
+    public void append(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        try (BufferedWriter writer = Files.newBufferedWriter(
+                file.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(MAPPER.writeValueAsString(this));
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * Read the runs appended to a file.
+     *
+     * @param file the JSON lines file
+     * @return the runs, oldest first, or an empty list if the file does not exist
+     * @throws IOException if the file cannot be read
+     */
+    public static List<ScaleRun> readAll(File file) throws IOException {
+        List<ScaleRun> runs = new ArrayList<>();
+        if (!file.exists()) {
+            return runs;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+                MappingIterator<ScaleRun> values = READER.readValues(reader)) {
+            while (values.hasNext()) {
+                runs.add(values.next());
+            }
+        }
+        return runs;
+    }
+}
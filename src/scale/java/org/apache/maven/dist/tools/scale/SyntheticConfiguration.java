@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.scale;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic <code>dist-tool.conf</code> with any number of artifacts, served by {@link SyntheticServer}, to measure
+ * how the reports scale. Artifacts are grouped by {@value #GROUP_SIZE}, each group in its own distribution area
+ * directory and <code>groupId</code>.
+ * <p>
+ * Versions and dates are derived from the artifactId, so that the configuration and the server agree without sharing
+ * state.
+ */
+public final class SyntheticConfiguration {
+    /** Artifacts per group. */
+    public static final int GROUP_SIZE = 25;
+
+    /** Distribution area of synthetic artifacts. */
+    public static final String DIST_AREA = "https://downloads.apache.org/maven/";
+
+    /** Index page listing synthetic artifacts, one of those known by the index page report. */
+    public static final String INDEX_PAGE = "https://maven.apache.org/shared/";
+
+    /** Base url of synthetic artifact sites. */
+    public static final String SITE_BASE = "https://maven.apache.org/synthetic/";
+
+    private static final String GROUP_ID = "org.apache.maven.dist.synthetic";
+
+    private static final String PREFIX = "synthetic-";
+
+    private SyntheticConfiguration() {}
+
+    /**
+     * Generate configuration lines.
+     *
+     * @param artifacts the number of artifacts
+     * @return the configuration lines, in <code>dist-tool.conf</code> format
+     */
+    public static List<String> generate(int artifacts) {
+        List<String> lines = new ArrayList<>(artifacts + artifacts / GROUP_SIZE + 2);
+        lines.add("> dist-area = " + DIST_AREA);
+        for (int group = 0; group * GROUP_SIZE < artifacts; group++) {
+            lines.add("");
+            lines.add('/' + directory(group) + ": " + groupId(group) + ' ' + INDEX_PAGE);
+            for (int i = group * GROUP_SIZE; i < Math.min(artifacts, (group + 1) * GROUP_SIZE); i++) {
+                lines.add("  " + artifactId(i));
+            }
+        }
+        return lines;
+    }
+
+    /**
+     * Number of groups of synthetic artifacts.
+     *
+     * @param artifacts the number of artifacts
+     * @return the number of groups
+     */
+    public static int groups(int artifacts) {
+        return (artifacts + GROUP_SIZE - 1) / GROUP_SIZE;
+    }
+
+    /**
+     * Distribution area directory of a group.
+     *
+     * @param group the group number
+     * @return the directory name
+     */
+    public static String directory(int group) {
+        return PREFIX + 'g' + group;
+    }
+
+    /**
+     * <code>groupId</code> of a group.
+     *
+     * @param group the group number
+     * @return the groupId
+     */
+    public static String groupId(int group) {
+        return GROUP_ID + ".g" + group;
+    }
+
+    /**
+     * <code>artifactId</code> of an artifact.
+     *
+     * @param artifact the artifact number
+     * @return the artifactId
+     */
+    public static String artifactId(int artifact) {
+        return PREFIX + "a" + artifact;
+    }
+
+    /**
+     * Number of a synthetic artifact.
+     *
+     * @param artifactId the artifactId
+     * @return the artifact number, or <code>-1</code> if not synthetic
+     */
+    public static int artifactNumber(String artifactId) {
+        if (!artifactId.startsWith(PREFIX + "a")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(artifactId.substring(PREFIX.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Number of a synthetic group.
+     *
+     * @param directory the distribution area directory
+     * @return the group number, or <code>-1</code> if not synthetic
+     */
+    public static int groupNumber(String directory) {
+        if (!directory.startsWith(PREFIX + "g")) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(directory.substring(PREFIX.length() + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Released versions of an artifact, oldest first: from 3 to 20 versions.
+     *
+     * @param artifact the artifact number
+     * @return the versions
+     */
+    public static List<String> versions(int artifact) {
+        int count = 3 + Math.floorMod(artifact * 31 + 7, 18);
+        List<String> versions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            versions.add("1." + i);
+        }
+        return versions;
+    }
+
+    /**
+     * Latest version of an artifact.
+     *
+     * @param artifact the artifact number
+     * @return the latest version
+     */
+    public static String latest(int artifact) {
+        List<String> versions = versions(artifact);
+        return versions.get(versions.size() - 1);
+    }
+
+    /**
+     * Day of the latest release of an artifact, counted from 2020-01-01.
+     *
+     * @param artifact the artifact number
+     * @return the number of days
+     */
+    public static int releaseDay(int artifact) {
+        return Math.floorMod(artifact * 97 + 13, 1800);
+    }
+}
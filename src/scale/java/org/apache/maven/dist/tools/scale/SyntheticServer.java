@@ -0,0 +1,489 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.scale;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.maven.dist.tools.http.StandInServer;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.util.BufferUtil;
+import org.eclipse.jetty.util.Callback;
+
+/**
+ * Stand-in server synthesizing the artifacts of {@link SyntheticConfiguration}: repository metadata, POMs and
+ * directories, distribution area directories, index page and sites. Responses are delayed to simulate latency, jitter
+ * and bandwidth, and some fail with <code>503</code>, without blocking server threads.
+ */
+public class SyntheticServer extends StandInServer {
+    private static final LocalDate EPOCH = LocalDate.of(2020, 1, 1);
+
+    private static final DateTimeFormatter LISTING_DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final DateTimeFormatter LAST_UPDATED = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    /** Approximate size of a site page, like a real Fluido page. */
+    private static final int SITE_PAGE_SIZE = 16 * 1024;
+
+    /** Parent POM of synthetic artifacts, defining the site url they inherit. */
+    private static final String PARENT = "synthetic-parent-1.pom";
+
+    /** Size of binary files. */
+    private static final int FILE_SIZE = 1024;
+
+    /**
+     * Network conditions.
+     *
+     * @param latencyMillis the delay before each response, in milliseconds
+     * @param jitterMillis the maximum random variation of the delay, in milliseconds
+     * @param errorRate the ratio of requests failing with <code>503</code>, from 0 to 1
+     * @param bytesPerSecond the bandwidth of each response, or <code>0</code> for unlimited
+     */
+    public record Conditions(long latencyMillis, long jitterMillis, double errorRate, long bytesPerSecond) {}
+
+    private record Content(String type, byte[] bytes) {}
+
+    private final int artifacts;
+
+    private final Conditions conditions;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("dist-tool-synthetic").daemon().factory());
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder bytes = new LongAdder();
+
+    private long startNanos;
+
+    /**
+     * <p>Constructor for SyntheticServer.</p>
+     *
+     * @param artifacts the number of synthetic artifacts
+     * @param conditions the simulated network conditions
+     * @param port the port to listen to on localhost, or <code>0</code> for any free port
+     */
+    public SyntheticServer(int artifacts, Conditions conditions, int port) {
+        super(port);
+        this.artifacts = artifacts;
+        this.conditions = conditions;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() throws IOException {
+        super.start();
+        ScaleRun.resetPeakHeap();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * <p>Getter for the field <code>artifacts</code>.</p>
+     *
+     * @return the number of synthetic artifacts
+     */
+    public int getArtifacts() {
+        return artifacts;
+    }
+
+    /**
+     * <p>Getter for the field <code>conditions</code>.</p>
+     *
+     * @return the simulated network conditions
+     */
+    public Conditions getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Time since the server started.
+     *
+     * @return the elapsed time, in milliseconds
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Requests received.
+     *
+     * @return the number of requests, including failed ones
+     */
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    /**
+     * Requests failed on purpose.
+     *
+     * @return the number of <code>503</code> responses
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * Content sent.
+     *
+     * @return the number of bytes sent
+     */
+    public long getBytes() {
+        return bytes.sum();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void serve(String method, String url, Request request, Response response, Callback callback) {
+        requests.increment();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long delay = conditions.latencyMillis();
+        if (conditions.jitterMillis() > 0) {
+            delay += random.nextLong(-conditions.jitterMillis(), conditions.jitterMillis() + 1);
+        }
+
+        Content content;
+        int status;
+        if (conditions.errorRate() > 0 && random.nextDouble() < conditions.errorRate()) {
+            errors.increment();
+            status = 503;
+            content = new Content("text/plain", new byte[0]);
+        } else {
+            content = synthesize(url);
+            status = content == null ? 404 : 200;
+            if (content == null) {
+                content = new Content("text/plain", new byte[0]);
+            }
+        }
+
+        boolean head = "HEAD".equals(method);
+        if (!head && conditions.bytesPerSecond() > 0) {
+            delay += content.bytes().length * 1000L / conditions.bytesPerSecond();
+        }
+
+        Content body = content;
+        scheduler.schedule(
+                () -> {
+                    try {
+                        response.setStatus(status);
+                        response.getHeaders().put(HttpHeader.CONTENT_TYPE, body.type());
+                        response.getHeaders().put(HttpHeader.CONTENT_LENGTH, body.bytes().length);
+                        if (head) {
+                            response.write(true, BufferUtil.EMPTY_BUFFER, callback);
+                        } else {
+                            bytes.add(body.bytes().length);
+                            response.write(true, ByteBuffer.wrap(body.bytes()), callback);
+                        }
+                    } catch (RuntimeException e) {
+                        callback.failed(e);
+                    }
+                },
+                Math.max(0, delay),
+                TimeUnit.MILLISECONDS);
+    }
+
+    private Content synthesize(String url) {
+        String path;
+        try {
+            path = new URI(url).getPath();
+        } catch (URISyntaxException e) {
+            return null;
+        }
+        if (url.startsWith(SyntheticConfiguration.DIST_AREA)) {
+            return distArea(trimSlash(url.substring(SyntheticConfiguration.DIST_AREA.length())));
+        }
+        if (url.equals(SyntheticConfiguration.INDEX_PAGE)
+                || url.equals(SyntheticConfiguration.INDEX_PAGE + "index.html")) {
+            return indexPage();
+        }
+        if (url.startsWith(SyntheticConfiguration.SITE_BASE)) {
+            int artifact = artifact(trimSlash(url.substring(SyntheticConfiguration.SITE_BASE.length())));
+            return artifact < 0 ? null : sitePage(artifact);
+        }
+        return repository(path.split("/"), path.endsWith("/"));
+    }
+
+    private static String trimSlash(String path) {
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private int artifact(String artifactId) {
+        int artifact = SyntheticConfiguration.artifactNumber(artifactId);
+        return artifact < artifacts ? artifact : -1;
+    }
+
+    private static LocalDate releaseDate(int artifact) {
+        return EPOCH.plusDays(SyntheticConfiguration.releaseDay(artifact));
+    }
+
+    private Content distArea(String directory) {
+        StringBuilder listing = listingStart();
+        if (directory.isEmpty()) {
+            for (int group = 0; group < SyntheticConfiguration.groups(artifacts); group++) {
+                listingEntry(listing, SyntheticConfiguration.directory(group) + '/', EPOCH, -1);
+            }
+            return listingEnd(listing);
+        }
+        int group = SyntheticConfiguration.groupNumber(directory);
+        if (group < 0 || group >= SyntheticConfiguration.groups(artifacts)) {
+            return null;
+        }
+        for (int artifact = group * SyntheticConfiguration.GROUP_SIZE;
+                artifact < Math.min(artifacts, (group + 1) * SyntheticConfiguration.GROUP_SIZE);
+                artifact++) {
+            String sourceRelease = SyntheticConfiguration.artifactId(artifact) + '-'
+                    + SyntheticConfiguration.latest(artifact) + "-source-release.zip";
+            LocalDate date = releaseDate(artifact);
+            listingEntry(listing, sourceRelease, date, FILE_SIZE);
+            listingEntry(listing, sourceRelease + ".asc", date, 833);
+            listingEntry(listing, sourceRelease + ".sha512", date, 128);
+        }
+        return listingEnd(listing);
+    }
+
+    private Content repository(String[] segments, boolean directory) {
+        if (segments.length > 0 && segments[segments.length - 1].startsWith(PARENT)) {
+            return checksummed(segments[segments.length - 1], PARENT, parentPom());
+        }
+        // .../<groupId path>/<artifactId>/maven-metadata.xml or .../<artifactId>/<version>/[<file>]
+        for (int i = 0; i < segments.length; i++) {
+            int artifact = artifact(segments[i]);
+            if (artifact < 0) {
+                continue;
+            }
+            if (i == segments.length - 2 && segments[i + 1].startsWith("maven-metadata.xml")) {
+                return checksummed(segments[i + 1], "maven-metadata.xml", metadata(artifact));
+            }
+            if (i + 1 >= segments.length || !SyntheticConfiguration.versions(artifact).contains(segments[i + 1])) {
+                return null;
+            }
+            String version = segments[i + 1];
+            if (i + 1 == segments.length - 1 && directory) {
+                return versionDirectory(artifact, version);
+            }
+            if (i + 2 == segments.length - 1) {
+                return file(artifact, version, segments[i + 2]);
+            }
+            return null;
+        }
+        return null;
+    }
+
+    private Content file(int artifact, String version, String filename) {
+        String base = SyntheticConfiguration.artifactId(artifact) + '-' + version;
+        if (filename.startsWith(base + ".pom")) {
+            return checksummed(filename, base + ".pom", pom(artifact, version));
+        }
+        for (String file : files(artifact, version)) {
+            if (file.equals(filename)) {
+                return new Content("application/octet-stream", new byte[FILE_SIZE]);
+            }
+        }
+        return null;
+    }
+
+    private static List<String> files(int artifact, String version) {
+        String base = SyntheticConfiguration.artifactId(artifact) + '-' + version;
+        return List.of(
+                base + ".jar",
+                base + ".jar.sha1",
+                base + "-source-release.zip",
+                base + "-source-release.zip.asc",
+                base + "-source-release.zip.sha1",
+                base + "-source-release.zip.sha512");
+    }
+
+    private static Content checksummed(String filename, String name, Content content) {
+        if (filename.equals(name)) {
+            return content;
+        }
+        if (filename.equals(name + ".sha1")) {
+            return new Content("text/plain", hex("SHA-1", content.bytes()).getBytes(StandardCharsets.US_ASCII));
+        }
+        return null;
+    }
+
+    private static String hex(String algorithm, byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance(algorithm).digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Content metadata(int artifact) {
+        StringBuilder xml = new StringBuilder(512);
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<metadata>\n")
+                .append("  <groupId>")
+                .append(SyntheticConfiguration.groupId(artifact / SyntheticConfiguration.GROUP_SIZE))
+                .append("</groupId>\n  <artifactId>")
+                .append(SyntheticConfiguration.artifactId(artifact))
+                .append("</artifactId>\n  <versioning>\n    <latest>")
+                .append(SyntheticConfiguration.latest(artifact))
+                .append("</latest>\n    <release>")
+                .append(SyntheticConfiguration.latest(artifact))
+                .append("</release>\n    <versions>\n");
+        for (String version : SyntheticConfiguration.versions(artifact)) {
+            xml.append("      <version>").append(version).append("</version>\n");
+        }
+        xml.append("    </versions>\n    <lastUpdated>")
+                .append(LAST_UPDATED.format(releaseDate(artifact)))
+                .append("120000</lastUpdated>\n  </versioning>\n</metadata>\n");
+        return new Content("application/xml", xml.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Content parentPom() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <groupId>org.apache.maven.dist.synthetic</groupId>\n"
+                + "  <artifactId>synthetic-parent</artifactId>\n"
+                + "  <version>1</version>\n"
+                + "  <packaging>pom</packaging>\n"
+                + "  <url>" + SyntheticConfiguration.SITE_BASE + "</url>\n"
+                + "</project>\n";
+        return new Content("application/xml", xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Content pom(int artifact, String version) {
+        // site url inherited from parent, like most Maven components
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n"
+                + "  <modelVersion>4.0.0</modelVersion>\n"
+                + "  <parent>\n"
+                + "    <groupId>org.apache.maven.dist.synthetic</groupId>\n"
+                + "    <artifactId>synthetic-parent</artifactId>\n"
+                + "    <version>1</version>\n"
+                + "  </parent>\n"
+                + "  <groupId>" + SyntheticConfiguration.groupId(artifact / SyntheticConfiguration.GROUP_SIZE)
+                + "</groupId>\n"
+                + "  <artifactId>" + SyntheticConfiguration.artifactId(artifact) + "</artifactId>\n"
+                + "  <version>" + version + "</version>\n"
+                + "</project>\n";
+        return new Content("application/xml", xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Content versionDirectory(int artifact, String version) {
+        StringBuilder listing = listingStart();
+        LocalDate date = releaseDate(artifact);
+        String base = SyntheticConfiguration.artifactId(artifact) + '-' + version;
+        listingEntry(listing, base + ".pom", date, pom(artifact, version).bytes().length);
+        listingEntry(listing, base + ".pom.sha1", date, 40);
+        for (String file : files(artifact, version)) {
+            listingEntry(listing, file, date, FILE_SIZE);
+        }
+        return listingEnd(listing);
+    }
+
+    private static StringBuilder listingStart() {
+        return new StringBuilder(4096)
+                .append("<html>\n<head><title>Index</title></head>\n<body>\n<pre>\n<a href=\"../\">../</a>\n");
+    }
+
+    private static void listingEntry(StringBuilder listing, String href, LocalDate date, long size) {
+        listing.append("<a href=\"")
+                .append(href)
+                .append("\" title=\"")
+                .append(href)
+                .append("\">")
+                .append(href)
+                .append("</a>")
+                .append(" ".repeat(Math.max(1, 60 - href.length())))
+                .append(LISTING_DATE.format(date))
+                .append(" 12:00")
+                .append(size < 0 ? "         -" : String.format("%10d", size))
+                .append('\n');
+    }
+
+    private static Content listingEnd(StringBuilder listing) {
+        listing.append("</pre>\n</body>\n</html>\n");
+        return new Content("text/html", listing.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Content indexPage() {
+        StringBuilder html = new StringBuilder(artifacts * 160 + 512);
+        html.append("<html>\n<head><title>Synthetic Components</title></head>\n<body>\n<table>\n<tbody>\n")
+                .append("<tr><th>Name</th><th>Version</th><th>Release Date</th><th>Description</th></tr>\n");
+        for (int artifact = 0; artifact < artifacts; artifact++) {
+            String artifactId = SyntheticConfiguration.artifactId(artifact);
+            html.append("<tr><td><a href=\"/synthetic/")
+                    .append(artifactId)
+                    .append("/\">")
+                    .append(artifactId)
+                    .append("</a></td><td>")
+                    .append(SyntheticConfiguration.latest(artifact))
+                    .append("</td><td>")
+                    .append(releaseDate(artifact))
+                    .append("</td><td>Synthetic artifact</td></tr>\n");
+        }
+        html.append("</tbody>\n</table>\n</body>\n</html>\n");
+        return new Content("text/html", html.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Content sitePage(int artifact) {
+        String artifactId = SyntheticConfiguration.artifactId(artifact);
+        StringBuilder html = new StringBuilder(SITE_PAGE_SIZE + 1024);
+        html.append("<!DOCTYPE html>\n<html>\n<head><title>")
+                .append(artifactId)
+                .append("</title></head>\n<body>\n<ul class=\"breadcrumb\">\n")
+                .append("<li id=\"publishDate\">Last Published: ")
+                .append(releaseDate(artifact))
+                .append("</li>\n<li id=\"projectVersion\">Version: ")
+                .append(SyntheticConfiguration.latest(artifact))
+                .append("</li>\n</ul>\n<main>\n");
+        while (html.length() < SITE_PAGE_SIZE) {
+            html.append("<p>Synthetic content of ")
+                    .append(artifactId)
+                    .append(", to weigh like a real site page.</p>\n");
+        }
+        html.append("</main>\n</body>\n</html>\n");
+        return new Content("text/html", html.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<String> lsRemote(String remote) {
+        return List.of("master");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        super.close();
+    }
+}
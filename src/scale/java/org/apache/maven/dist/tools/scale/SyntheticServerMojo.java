@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.scale;
+
+import javax.inject.Inject;
+
+import java.io.IOException;
+
+import org.apache.maven.dist.tools.SessionCache;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Start a {@link SyntheticServer} for the rest of the Maven session: the check reports executed afterwards check
+ * its synthetic artifacts instead of <code>dist-tool.conf</code>, to measure how they scale.
+ */
+@Mojo(name = "synthetic-server", requiresProject = false)
+public class SyntheticServerMojo extends AbstractMojo {
+    @Inject
+    private HttpTransport transport;
+
+    @Inject
+    private SessionCache sessionCache;
+
+    /**
+     * Number of synthetic artifacts.
+     */
+    @Parameter(defaultValue = "1000", property = "dist-tool.synthetic")
+    private int artifacts;
+
+    /**
+     * Latency of the synthetic server, in milliseconds.
+     */
+    @Parameter(defaultValue = "50", property = "dist-tool.synthetic.latency")
+    private long latency;
+
+    /**
+     * Maximum random variation of the synthetic server latency, in milliseconds.
+     */
+    @Parameter(defaultValue = "20", property = "dist-tool.synthetic.jitter")
+    private long jitter;
+
+    /**
+     * Ratio of synthetic server responses failing with <code>503</code>, from 0 to 1.
+     */
+    @Parameter(defaultValue = "0", property = "dist-tool.synthetic.errorRate")
+    private double errorRate;
+
+    /**
+     * Bandwidth of each synthetic server response, in KB/s: <code>0</code> for unlimited.
+     */
+    @Parameter(defaultValue = "0", property = "dist-tool.synthetic.bandwidth")
+    private long bandwidth;
+
+    /** {@inheritDoc} */
+    @Override
+    public void execute() throws MojoExecutionException {
+        if (transport.getStandIn() instanceof SyntheticServer) {
+            return;
+        }
+        SyntheticServer server = new SyntheticServer(
+                artifacts, new SyntheticServer.Conditions(latency, jitter, errorRate, bandwidth * 1024), 0);
+        try {
+            server.start();
+        } catch (IOException e) {
+            throw new MojoExecutionException("cannot start synthetic server", e);
+        }
+        getLog().info("Checking " + artifacts + " synthetic artifacts served by " + server.getBaseUrl());
+        transport.redirectTo(server);
+        sessionCache.useConfiguration(SyntheticConfiguration.generate(artifacts));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.scale;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SyntheticConfigurationTest {
+
+    @Test
+    void generateGroupsOfArtifacts() {
+        List<String> lines = SyntheticConfiguration.generate(60);
+
+        assertEquals("> dist-area = " + SyntheticConfiguration.DIST_AREA, lines.get(0));
+        assertEquals(3, SyntheticConfiguration.groups(60));
+        assertEquals(3, lines.stream().filter(l -> l.startsWith("/")).count());
+        assertEquals(60, lines.stream().filter(l -> l.startsWith("  ")).count());
+        assertEquals(
+                "/synthetic-g2: org.apache.maven.dist.synthetic.g2 " + SyntheticConfiguration.INDEX_PAGE,
+                lines.get(lines.size() - 11));
+        assertEquals("  synthetic-a59", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    void namesRoundTrip() {
+        assertEquals(42, SyntheticConfiguration.artifactNumber(SyntheticConfiguration.artifactId(42)));
+        assertEquals(7, SyntheticConfiguration.groupNumber(SyntheticConfiguration.directory(7)));
+        assertEquals(-1, SyntheticConfiguration.artifactNumber("maven-site-plugin"));
+        assertEquals(-1, SyntheticConfiguration.groupNumber("synthetic-gx"));
+    }
+
+    @Test
+    void latestIsLastVersion() {
+        for (int artifact = 0; artifact < 100; artifact++) {
+            List<String> versions = SyntheticConfiguration.versions(artifact);
+            assertTrue(versions.size() >= 3 && versions.size() <= 20);
+            assertEquals(versions.get(versions.size() - 1), SyntheticConfiguration.latest(artifact));
+        }
+    }
+}
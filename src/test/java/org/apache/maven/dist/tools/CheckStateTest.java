@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CheckStateTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void saveAndLoad() throws IOException {
+        Path file = tempDir.resolve("state/check-site.json");
+        CheckState state = CheckState.load(file);
+        assertNull(state.get("org.apache.maven:maven-core"));
+
+        CheckState.Entry entry = new CheckState.Entry(
+                "3.9.9",
+                "20240816123456",
+                "listing:1a2b",
+                1234L,
+                List.of(new ResultEvent(
+                        "check-source-release",
+                        "org.apache.maven",
+                        "maven-core",
+                        "3.9.9",
+                        "dist",
+                        ResultEvent.ERROR,
+                        "https://downloads.apache.org/maven/maven-3/3.9.9/source",
+                        "Missing file for maven-core",
+                        List.of("apache-maven-3.9.9-src.zip.asc"),
+                        false)),
+                JsonNodeFactory.instance.objectNode().put("url", "https://maven.apache.org/ref/3.9.9/"));
+        state.put("org.apache.maven:maven-core", entry);
+        state.put("org.apache.maven:maven-model", entry);
+        state.remove("org.apache.maven:maven-model");
+        state.save();
+
+        CheckState loaded = CheckState.load(file);
+        assertEquals(entry, loaded.get("org.apache.maven:maven-core"));
+        assertNull(loaded.get("org.apache.maven:maven-model"));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DirectoryListingTest {
+    private static DirectoryListing read(String html) throws IOException {
+        return DirectoryListing.read(new ByteArrayInputStream(html.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void mavenRepository() throws IOException {
+        DirectoryListing listing = read("<html><body><pre id=\"contents\">\n"
+                + "<a href=\"../\">../</a>\n"
+                + "<a href=\"doxia-2.0.0-source-release.zip\" title=\"doxia-2.0.0-source-release.zip\">"
+                + "doxia-2.0.0-source-release.zip</a>   2024-10-16 07:55    1234567\n"
+                + "<a href=\"doxia-2.0.0-source-release.zip.asc\" title=\"doxia-2.0.0-source-release.zip.asc\">"
+                + "doxia-2.0.0-source-release.zip.asc</a>   2024-10-16 07:55        488\n"
+                + "</pre></body></html>");
+
+        assertEquals(3, listing.getEntries().size());
+        assertTrue(listing.contains("doxia-2.0.0-source-release.zip.asc"));
+        assertTrue(listing.getEntries().get(0).isDirectory());
+
+        DirectoryListing.Entry zip = listing.getEntries().get(1);
+        assertEquals(1234567L, zip.size());
+        assertEquals(LocalDateTime.of(2024, 10, 16, 7, 55), zip.date());
+    }
+
+    @Test
+    void httpdTable() throws IOException {
+        DirectoryListing listing = read("<table>\n"
+                + "<tr><td valign=\"top\"><img src=\"/icons/folder.gif\" alt=\"[DIR]\"></td>"
+                + "<td><a href=\"source/\">source/</a></td><td align=\"right\">2024-10-16 07:55  </td>"
+                + "<td align=\"right\">  - </td></tr>\n"
+                + "<tr><td valign=\"top\"><img src=\"/icons/compressed.gif\" alt=\"[   ]\"></td>"
+                + "<td><a href=\"doxia-2.0.0-source-release.zip\">doxia-2.0.0-source-release.zip</a></td>"
+                + "<td align=\"right\">16-Oct-2024 07:55  </td><td align=\"right\">1.5M</td></tr>\n"
+                + "</table>");
+
+        DirectoryListing.Entry dir = listing.getEntries().get(0);
+        assertEquals("source/", dir.href());
+        assertEquals(-1L, dir.size());
+
+        DirectoryListing.Entry zip = listing.getEntries().get(1);
+        assertEquals(LocalDateTime.of(2024, 10, 16, 7, 55), zip.date());
+        assertEquals(1572864L, zip.size());
+    }
+
+    @Test
+    void subversion() throws IOException {
+        DirectoryListing listing = read("<ul>\n"
+                + "  <li><a href=\"../\">..</a></li><li><a href='a&amp;b.txt'>a&amp;b.txt</a></li>\n"
+                + "  <li><A HREF=doxia-2.0.0-source-release.zip>doxia-2.0.0-source-release.zip</A></li>\n"
+                + "</ul>");
+
+        assertEquals(3, listing.getEntries().size());
+        assertTrue(listing.contains("a&b.txt"));
+        assertTrue(listing.contains("doxia-2.0.0-source-release.zip"));
+        assertFalse(listing.contains("doxia-2.0.0-source-release.zip.asc"));
+        assertNull(listing.getEntries().get(2).date());
+    }
+}
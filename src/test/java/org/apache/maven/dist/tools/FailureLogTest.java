@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FailureLogTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void concurrentEntriesAreNotInterleaved() throws IOException {
+        File file = tempDir.resolve("check-test.log").toFile();
+        FailureLog log = FailureLog.get(file);
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                int artifact = i;
+                executor.submit(() -> log.append("artifact-" + artifact + "\n > a-" + artifact + " <\n > b-" + artifact
+                        + " <\n"));
+            }
+        }
+        log.flush();
+
+        List<String> lines = Files.readAllLines(file.toPath());
+        assertEquals(600, lines.size());
+        for (int i = 0; i < lines.size(); i += 3) {
+            String artifact = lines.get(i).substring("artifact-".length());
+            assertEquals(" > a-" + artifact + " <", lines.get(i + 1));
+            assertEquals(" > b-" + artifact + " <", lines.get(i + 2));
+        }
+    }
+
+    @Test
+    void reset() throws IOException {
+        File file = tempDir.resolve("check-reset.log").toFile();
+        FailureLog.get(file).append("first run\n");
+        FailureLog.flush(file);
+        assertTrue(file.exists());
+
+        FailureLog.reset(file);
+        assertFalse(file.exists());
+
+        FailureLog.get(file).append("second run\n");
+        FailureLog.flush(file);
+        assertEquals(List.of("second run"), Files.readAllLines(file.toPath()));
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SiteUrlResolverTest {
+
+    private static SiteUrlResolver.Pom parse(String xml) throws Exception {
+        return SiteUrlResolver.Pom.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void parseOnlySiteElements() throws Exception {
+        SiteUrlResolver.Pom pom = parse("<project child.project.url.inherit.append.path=\"false\">"
+                + "<parent><groupId>org.apache.maven</groupId><artifactId>maven-parent</artifactId>"
+                + "<version>45</version></parent>"
+                + "<artifactId>maven-shared-components</artifactId>"
+                + "<url>https://maven.apache.org/shared/${project.artifactId}/</url>"
+                + "<properties><maven.site.path>shared-archives</maven.site.path></properties>"
+                + "<dependencies><dependency><groupId>junit</groupId><artifactId>junit</artifactId>"
+                + "<version>4</version><url>ignored</url></dependency></dependencies>"
+                + "</project>");
+
+        assertNull(pom.groupId());
+        assertEquals("maven-shared-components", pom.artifactId());
+        assertNull(pom.version());
+        assertEquals(new SiteUrlResolver.Parent("org.apache.maven", "maven-parent", "45"), pom.parent());
+        assertEquals("https://maven.apache.org/shared/${project.artifactId}/", pom.url());
+        assertFalse(pom.appendPath());
+        assertEquals("shared-archives", pom.properties().get("maven.site.path"));
+    }
+
+    @Test
+    void appendPathLikeMaven() {
+        String plugins = "https://maven.apache.org/plugins";
+        assertEquals(plugins + "/a/", SiteUrlResolver.appendPath(plugins + '/', "a"));
+        assertEquals(plugins + "/a", SiteUrlResolver.appendPath(plugins, "a"));
+        assertEquals(plugins + "/a/", SiteUrlResolver.appendPath(plugins + '/', "/a"));
+    }
+}
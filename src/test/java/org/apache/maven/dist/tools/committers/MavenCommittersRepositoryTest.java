@@ -22,6 +22,7 @@ import java.net.InetSocketAddress;
 import java.util.List;
 
 import org.apache.maven.dist.tools.committers.MavenCommittersRepository.Committer;
+import org.apache.maven.dist.tools.http.HttpTransport;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.io.Content;
 import org.eclipse.jetty.server.Handler;
@@ -105,7 +106,7 @@ class MavenCommittersRepositoryTest {
 
     @Test
     void dataLoad() {
-        MavenCommittersRepository repo = new MavenCommittersRepository(baseUrl);
+        MavenCommittersRepository repo = new MavenCommittersRepository(new HttpTransport(), baseUrl);
         assertThat(repo.getCommitters())
                 .containsExactly(
                         new Committer("cstamas", List.of("Tamas Cservenak", "Tamás Cservenák"), true),
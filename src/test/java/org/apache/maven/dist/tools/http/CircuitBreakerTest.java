@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CircuitBreakerTest {
+
+    @Test
+    void openAfterConsecutiveFailuresThenProbe() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(2, Duration.ofMillis(200));
+
+        breaker.onFailure("host", new IOException("timeout"));
+        breaker.onResponse("host", 404); // host is up: resets failures count
+        breaker.onFailure("host", new IOException("timeout"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("host"));
+
+        breaker.onResponse("host", 503);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState("host"));
+        assertThrows(HostUnavailableException.class, () -> breaker.check("host", "url"));
+        breaker.check("other", "url");
+
+        Thread.sleep(250);
+        breaker.check("host", "probe");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState("host"));
+        assertThrows(HostUnavailableException.class, () -> breaker.check("host", "url"));
+
+        breaker.onResponse("host", 200);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("host"));
+        breaker.check("host", "url");
+    }
+
+    @Test
+    void interruptedProbeReleasesSlot() throws Exception {
+        CircuitBreaker breaker = new CircuitBreaker(1, Duration.ZERO);
+        breaker.onFailure("host", new IOException("timeout"));
+
+        breaker.check("host", "probe");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState("host"));
+        assertThrows(HostUnavailableException.class, () -> breaker.check("host", "url"));
+
+        // probe interrupted while waiting for a rate limit permit: no outcome
+        breaker.onAbandon("host");
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState("host"));
+        breaker.check("host", "probe again");
+        assertThrows(HostUnavailableException.class, () -> breaker.check("host", "url"));
+
+        breaker.onResponse("host", 200);
+        breaker.onAbandon("host"); // late cancel after the outcome is harmless
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState("host"));
+        breaker.check("host", "url");
+    }
+}
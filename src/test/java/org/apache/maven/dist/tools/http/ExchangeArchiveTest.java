@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ExchangeArchiveTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayRecordedExchange() throws Exception {
+        ExchangeArchive archive = new ExchangeArchive(directory);
+        archive.put(
+                "GET",
+                "https://example.org/a%2Db?q=1",
+                200,
+                Map.of("Content-Type", "text/html"),
+                "<html/>".getBytes(StandardCharsets.UTF_8));
+
+        // reopened archive finds the exchange, whatever the url encoding
+        ExchangeArchive.Exchange exchange = new ExchangeArchive(directory).get("GET", "https://example.org/a-b?q=1");
+        assertNotNull(exchange);
+        assertEquals(200, exchange.status());
+        assertEquals("text/html", exchange.headers().get("Content-Type"));
+        assertArrayEquals("<html/>".getBytes(StandardCharsets.UTF_8), exchange.content());
+
+        assertNull(archive.get("HEAD", "https://example.org/a-b?q=1"));
+        assertNull(archive.get("GET", "https://example.org/a+b?q=1"));
+    }
+
+    @Test
+    void latestExchangeWins() throws Exception {
+        ExchangeArchive archive = new ExchangeArchive(directory);
+        archive.put("HEAD", "https://example.org/", 503, Map.of("Retry-After", "1"), new byte[0]);
+        archive.put("HEAD", "https://example.org/", 200, Map.of(), new byte[0]);
+
+        ExchangeArchive.Exchange exchange = archive.get("HEAD", "https://example.org/");
+        assertEquals(200, exchange.status());
+        assertNull(exchange.headers().get("Retry-After"));
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FetchTimingsTest {
+
+    @Test
+    void summarizeByHostArtifactAndMojo() {
+        FetchTimings timings = new FetchTimings();
+        timings.enterMojo("dist-tool-check-site");
+
+        FetchTimings.setArtifact("org.apache.maven:maven-core");
+        FetchTimings.Sample sample = timings.start("GET", "maven.apache.org", "https://maven.apache.org/ref/");
+        sample.retry();
+        sample.setBytes(1000);
+        sample.setCache(FetchTimings.CACHE_HIT);
+        sample.end(null);
+        timings.recordCheck("org.apache.maven:maven-core", 5_000_000);
+        FetchTimings.setArtifact(null);
+
+        timings.start("HEAD", "repo.maven.apache.org", "https://repo.maven.apache.org/")
+                .end(new IOException("timeout"));
+
+        FetchTimings.Summary summary = timings.summarize(10);
+
+        assertEquals(2, summary.hosts().size());
+        FetchTimings.Stats site = summary.hosts().stream()
+                .filter(s -> s.name().equals("maven.apache.org"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, site.requests());
+        assertEquals(1000, site.bytes());
+        assertEquals(1, site.retries());
+        assertEquals(1, site.cacheHits());
+        assertEquals(0, site.failures());
+        assertEquals(1, site.histogram().values().stream().mapToInt(Integer::intValue).sum());
+
+        assertEquals(1, summary.artifacts().size());
+        assertEquals("dist-tool-check-site org.apache.maven:maven-core", summary.artifacts().get(0).name());
+        assertEquals(5, summary.artifacts().get(0).millis());
+
+        assertEquals(1, summary.mojos().size());
+        assertEquals(2, summary.mojos().get(0).requests());
+        assertEquals(1, summary.mojos().get(0).failures());
+        assertEquals(2, summary.slowest().size());
+    }
+
+    @Test
+    void attributeFetchesOfTasksToArtifact() throws Exception {
+        FetchTimings timings = new FetchTimings();
+        timings.enterMojo("dist-tool-check-source-release");
+
+        FetchTimings.setArtifact("org.apache.maven:maven-core");
+        Future<?> future;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            future = executor.submit(FetchTimings.withArtifact(() -> {
+                FetchTimings.Sample sample =
+                        timings.start("HEAD", "downloads.apache.org", "https://downloads.apache.org/");
+                sample.retry();
+                sample.retry();
+                sample.end(null);
+            }));
+        } finally {
+            FetchTimings.setArtifact(null);
+        }
+        future.get();
+
+        FetchTimings.Fetch fetch = timings.summarize(10).slowest().get(0);
+        assertEquals("org.apache.maven:maven-core", fetch.artifact());
+        assertEquals(2, fetch.retries());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.Reader;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HttpTransportTest {
+
+    @Test
+    void openReaderWithCharsetOfResponse() throws Exception {
+        Server server = new Server(new InetSocketAddress("localhost", 0));
+        server.setHandler(new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) {
+                response.setStatus(200);
+                if ("/latin1.html".equals(request.getHttpURI().getPath())) {
+                    response.getHeaders().put(HttpHeader.CONTENT_TYPE, "text/html; charset=ISO-8859-1");
+                    response.write(true, ByteBuffer.wrap("Gérard".getBytes(StandardCharsets.ISO_8859_1)), callback);
+                } else {
+                    response.getHeaders().put(HttpHeader.CONTENT_TYPE, "text/html");
+                    response.write(true, ByteBuffer.wrap("Gérard".getBytes(StandardCharsets.UTF_8)), callback);
+                }
+                return true;
+            }
+        });
+        server.start();
+        try {
+            String base = "http://localhost:" + ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+            HttpTransport transport = new HttpTransport();
+
+            try (Reader latin1 = transport.openReader(base + "/latin1.html")) {
+                assertEquals("Gérard", IOUtils.toString(latin1));
+            }
+            // no charset in Content-Type: UTF-8
+            try (Reader utf8 = transport.openReader(base + "/utf8.html")) {
+                assertEquals("Gérard", IOUtils.toString(utf8));
+            }
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonStreamDecoderTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String STATS = "{\"emails\":[{\"id\":1,\"subject\":\"[VOTE] Release\"},{\"id\":2}],"
+            + "\"participants\":{\"a\":{\"name\":\"\\u00e9lise\",\"count\":12}},\"lastYear\":2024,\"lastMonth\":7}";
+
+    record LastPost(Integer lastYear, Integer lastMonth) {}
+
+    @Test
+    void projectionFedByteByByte() throws IOException {
+        byte[] content = STATS.getBytes(StandardCharsets.UTF_8);
+        JsonStreamDecoder<LastPost> decoder = new JsonStreamDecoder<>(MAPPER, LastPost.class);
+        for (int i = 0; i < content.length; i++) {
+            decoder.feed(content, i, 1);
+        }
+
+        assertEquals(new LastPost(2024, 7), decoder.finish());
+        assertEquals(content.length, decoder.getBytes());
+    }
+
+    @Test
+    void irrelevantPropertiesAreNotBuffered() throws IOException {
+        StringBuilder json = new StringBuilder("{\"emails\":[");
+        for (int i = 0; i < 10_000; i++) {
+            json.append(i > 0 ? "," : "")
+                    .append("{\"id\":")
+                    .append(i)
+                    .append(",\"subject\":\"[VOTE] Release\",\"to\":[\"dev@maven.apache.org\"]}");
+        }
+        json.append("],\"lastYear\":2024,\"lastMonth\":7}");
+        byte[] content = json.toString().getBytes(StandardCharsets.UTF_8);
+        JsonStreamDecoder<LastPost> decoder = new JsonStreamDecoder<>(MAPPER, LastPost.class);
+        for (int i = 0; i < content.length; i += 4096) {
+            decoder.feed(content, i, Math.min(4096, content.length - i));
+        }
+
+        assertEquals(new LastPost(2024, 7), decoder.finish());
+        // start and end of the object, and the 2 kept properties with their values
+        assertEquals(6, decoder.getBufferedTokens());
+    }
+
+    record Email(Integer id) {}
+
+    record Emails(List<Email> emails) {}
+
+    @Test
+    void nestedProjection() throws IOException {
+        byte[] content = STATS.getBytes(StandardCharsets.UTF_8);
+        JsonStreamDecoder<Emails> decoder = new JsonStreamDecoder<>(MAPPER, Emails.class);
+        decoder.feed(content, 0, content.length);
+
+        assertEquals(new Emails(List.of(new Email(1), new Email(2))), decoder.finish());
+        // root object with the emails array of 2 objects, each one reduced to its id
+        assertEquals(13, decoder.getBufferedTokens());
+    }
+
+    @Test
+    void treeFedInChunks() throws IOException {
+        byte[] content = STATS.getBytes(StandardCharsets.UTF_8);
+        JsonStreamDecoder<JsonNode> decoder = new JsonStreamDecoder<>(MAPPER, JsonNode.class);
+        decoder.feed(content, 0, 50);
+        decoder.feed(content, 50, content.length - 50);
+
+        assertEquals(MAPPER.readTree(STATS), decoder.finish());
+    }
+
+    @Test
+    void noContent() throws IOException {
+        assertNull(new JsonStreamDecoder<>(MAPPER, LastPost.class).finish());
+    }
+
+    @Test
+    void truncatedContent() throws IOException {
+        byte[] content = STATS.getBytes(StandardCharsets.UTF_8);
+        JsonStreamDecoder<LastPost> decoder = new JsonStreamDecoder<>(MAPPER, LastPost.class);
+        decoder.feed(content, 0, content.length - 1);
+
+        assertThrows(IOException.class, decoder::finish);
+    }
+}
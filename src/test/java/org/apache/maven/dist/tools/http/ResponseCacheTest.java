@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ResponseCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void storeOnlyWithValidators() throws Exception {
+        ResponseCache cache = new ResponseCache(directory, 1024, false);
+
+        cache.put("https://example.org/a", null, null, "UTF-8", new byte[] {1});
+        cache.put("https://example.org/b", "\"etag-b\"", null, "UTF-8", new byte[] {2});
+
+        assertNull(cache.get("https://example.org/a"));
+        ResponseCache.Entry b = cache.get("https://example.org/b");
+        assertNotNull(b);
+        assertEquals("\"etag-b\"", b.etag());
+        assertArrayEquals(new byte[] {2}, b.content());
+
+        // reopened cache finds previous entries
+        assertNotNull(new ResponseCache(directory, 1024, false).get("https://example.org/b"));
+    }
+
+    @Test
+    void evictLeastRecentlyUsed() throws Exception {
+        ResponseCache cache = new ResponseCache(directory, 10, false);
+
+        cache.put("https://example.org/a", "a", null, null, new byte[4]);
+        cache.put("https://example.org/b", "b", null, null, new byte[4]);
+        cache.touch(cache.get("https://example.org/a"));
+        cache.put("https://example.org/c", "c", null, null, new byte[4]);
+
+        assertNotNull(cache.get("https://example.org/a"));
+        assertNull(cache.get("https://example.org/b"));
+        assertNotNull(cache.get("https://example.org/c"));
+    }
+
+    @Test
+    void revalidatedEntryEvicted() throws Exception {
+        ResponseCache cache = new ResponseCache(directory, 10, false);
+
+        cache.put("https://example.org/a", "a", null, null, new byte[] {1, 2, 3, 4});
+        ResponseCache.Entry a = cache.get("https://example.org/a");
+        assertArrayEquals(new byte[] {1, 2, 3, 4}, cache.revalidated(a));
+
+        // evicted between the conditional request and its 304 response
+        cache.put("https://example.org/b", "b", null, null, new byte[8]);
+        assertNull(cache.revalidated(a));
+    }
+
+    @Test
+    void refreshIgnoresPreviousEntries() throws Exception {
+        new ResponseCache(directory, 1024, false).put("https://example.org/a", "a", null, null, new byte[1]);
+
+        ResponseCache refreshing = new ResponseCache(directory, 1024, true);
+        assertNull(refreshing.get("https://example.org/a"));
+
+        refreshing.put("https://example.org/a", "a2", null, null, new byte[1]);
+        assertEquals("a2", refreshing.get("https://example.org/a").etag());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.http;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy policy = new RetryPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+    @Test
+    void retryOnlyTransientFailures() {
+        assertTrue(policy.isRetryable(new HttpStatusException(503, "u")));
+        assertTrue(policy.isRetryable(new HttpStatusException(429, "u")));
+        assertTrue(policy.isRetryable(new SocketTimeoutException()));
+        assertTrue(policy.isRetryable(new IOException("connection reset")));
+
+        assertFalse(policy.isRetryable(new HttpStatusException(404, "u")));
+        assertFalse(policy.isRetryable(new UnknownHostException("u")));
+        assertFalse(policy.isRetryable(new InterruptedIOException()));
+        assertFalse(policy.isRetryable(new IllegalStateException()));
+    }
+
+    @Test
+    void exponentialBackoffWithJitter() {
+        for (int i = 0; i < 100; i++) {
+            long first = policy.delayMillis(1, new IOException());
+            assertTrue(first >= 50 && first <= 100, "first " + first);
+            long second = policy.delayMillis(2, new IOException());
+            assertTrue(second >= 100 && second <= 200, "second " + second);
+            long capped = policy.delayMillis(10, new IOException());
+            assertTrue(capped >= 500 && capped <= 1000, "capped " + capped);
+        }
+    }
+
+    @Test
+    void retryAfter() {
+        assertEquals(Duration.ofSeconds(2), RetryPolicy.parseRetryAfter("2"));
+        assertNull(RetryPolicy.parseRetryAfter("soon"));
+        assertNull(RetryPolicy.parseRetryAfter(null));
+
+        assertEquals(400, policy.delayMillis(1, new HttpStatusException(429, "u", Duration.ofMillis(400))));
+        assertEquals(1000, policy.delayMillis(1, new HttpStatusException(503, "u", Duration.ofMinutes(5))));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.index;
+
+import java.util.List;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class IndexPageRowsTest {
+    private static final String HTML = "<table>"
+            + "<tr><th><b>Maven Parent POMs</b></th><th>45</th><th>2025-06-01</th></tr>"
+            + "<tr><td><a href='/pom/asf/'>ASF</a></td><td>35</td><td>2025-05-01</td></tr>"
+            + "<tr><td><a href='maven-shared-utils/'>utils</a></td><td>3.4.2</td><td>2022-01-01</td></tr>"
+            + "<tr><td><a href='https://maven.apache.org/shared/maven-archiver/'>archiver</a></td><td>3.6.3</td>"
+            + "<td>2024-11-01</td><td><a class='externalLink' href='https://github.com/apache/maven-xyz/'>"
+            + "</a></td></tr>"
+            + "<tr><td><a href='/shared/maven-archiver/index.html'>duplicate</a></td><td>0</td><td></td></tr>"
+            + "</table>";
+
+    private final IndexPageRows rows = IndexPageRows.parse(
+            Jsoup.parse(HTML, "https://maven.apache.org/pom/"),
+            new IndexPage("https://maven.apache.org/pom/", "Poms", 2, true));
+
+    @Test
+    void segments() {
+        assertEquals(List.of("/pom/", "/asf/"), IndexPageRows.segments("/pom/asf/"));
+        assertEquals(List.of("/maven.apache.org/", "/a/"), IndexPageRows.segments("https://maven.apache.org/a/b"));
+        assertEquals(List.of(), IndexPageRows.segments("maven-shared-utils/"));
+    }
+
+    @Test
+    void findLink() {
+        assertEquals(new IndexPageRows.Row("35", "2025-05-01"), rows.findLink("/asf/"));
+        // first row wins
+        assertEquals(new IndexPageRows.Row("3.6.3", "2024-11-01"), rows.findLink("/maven-archiver/"));
+        // external links are not components
+        assertNull(rows.findLink("/maven-xyz/"));
+        // relative link without leading slash is only found by an index-path override
+        assertNull(rows.findLink("/maven-shared-utils/"));
+        assertEquals("3.4.2", rows.findLink("maven-shared-utils/").version());
+    }
+
+    @Test
+    void findHeader() {
+        assertEquals(new IndexPageRows.Row("45", "2025-06-01"), rows.findHeader("Maven Parent POMs"));
+        assertEquals("45", rows.findHeader("Parent").version());
+        assertNull(rows.findHeader("Maven Plugins"));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs;
+
+import java.io.ByteArrayInputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.dist.tools.http.HttpStatusException;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.io.Content;
+import org.eclipse.jetty.server.Handler;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Response;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.Callback;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JenkinsJobsTest {
+    private static final String JSON = "{\"_class\":\"jenkins.branch.OrganizationFolder\",\"jobs\":["
+            + "{\"_class\":\"WorkflowMultiBranchProject\",\"name\":\"maven-acr-plugin\",\"jobs\":["
+            + "{\"_class\":\"WorkflowJob\",\"name\":\"master\",\"url\":\"https://ci/acr/master/\",\"color\":\"blue\","
+            + "\"lastBuild\":{\"_class\":\"WorkflowRun\",\"number\":42,\"result\":\"SUCCESS\","
+            + "\"timestamp\":1700000000000}},"
+            + "{\"name\":\"MACR-1\",\"url\":\"https://ci/acr/MACR-1/\",\"color\":\"notbuilt\",\"lastBuild\":null}]},"
+            + "{\"jobs\":[{\"name\":\"master\",\"lastBuild\":{\"result\":null,\"number\":7}}],\"name\":\"maven-ant\"},"
+            + "{\"name\":\"maven-site\"}]}";
+
+    @Test
+    void parse() throws Exception {
+        Map<String, List<JenkinsJobs.Job>> repositories =
+                JenkinsJobs.parse(new ByteArrayInputStream(JSON.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(List.of("maven-acr-plugin", "maven-ant", "maven-site"), List.copyOf(repositories.keySet()));
+
+        List<JenkinsJobs.Job> acr = repositories.get("maven-acr-plugin");
+        assertEquals(
+                new JenkinsJobs.Job(
+                        "master",
+                        "https://ci/acr/master/",
+                        "blue",
+                        new JenkinsJobs.Build("SUCCESS", 42, 1700000000000L)),
+                acr.get(0));
+        assertEquals("MACR-1", acr.get(1).name());
+        assertNull(acr.get(1).lastBuild());
+
+        JenkinsJobs.Build running = repositories.get("maven-ant").get(0).lastBuild();
+        assertNull(running.result());
+        assertEquals(7, running.number());
+
+        assertEquals(List.of(), repositories.get("maven-site"));
+    }
+
+    @Test
+    void folderRequestFails() throws Exception {
+        AtomicInteger folderRequests = new AtomicInteger();
+        Server server = new Server(new InetSocketAddress("localhost", 0));
+        server.setHandler(new Handler.Abstract() {
+            @Override
+            public boolean handle(Request request, Response response, Callback callback) {
+                String path = request.getHttpURI().getPath();
+                if ("/maven-box/api/json".equals(path)) {
+                    folderRequests.incrementAndGet();
+                    Response.writeError(request, response, callback, 403);
+                } else if ("/maven-box/job/maven-ant/api/json".equals(path)) {
+                    response.setStatus(200);
+                    response.getHeaders().put(HttpHeader.CONTENT_TYPE, "application/json");
+                    Content.Sink.write(
+                            response,
+                            true,
+                            "{\"_class\":\"WorkflowMultiBranchProject\",\"jobs\":[{\"name\":\"master\","
+                                    + "\"url\":\"https://ci/ant/master/\",\"color\":\"red\",\"lastBuild\":null}]}",
+                            callback);
+                } else {
+                    Response.writeError(request, response, callback, 404);
+                }
+                return true;
+            }
+        });
+        server.start();
+        try {
+            int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+            JenkinsJobs jenkinsJobs = new JenkinsJobs(new HttpTransport(), "http://localhost:" + port + "/maven-box/");
+
+            assertEquals(
+                    List.of(new JenkinsJobs.Job("master", "https://ci/ant/master/", "red", null)),
+                    jenkinsJobs.getJobs("maven-ant"));
+            assertThrows(HttpStatusException.class, () -> jenkinsJobs.getJobs("maven-site"));
+            assertEquals(1, folderRequests.get());
+        } finally {
+            server.stop();
+        }
+    }
+}
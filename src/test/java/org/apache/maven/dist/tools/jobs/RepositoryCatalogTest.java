@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RepositoryCatalogTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void parse() throws Exception {
+        String html = "<h2>Apache Tomcat</h2><table><tbody><tr><td><a>tomcat.git</a></td></tr></tbody></table>"
+                + "<div><h2>Apache Maven</h2><table><tbody>"
+                + "<tr><td><a href='maven.git'>maven.git</a></td><td>Apache Maven core</td></tr>"
+                + "<tr class='disabled'><td><a>maven-ant-tasks.git</a></td></tr>"
+                + "<tr><td><a>maven-blog.git</a></td></tr>"
+                + "</tbody></table></div>";
+
+        assertEquals(List.of("maven", "maven-blog"), RepositoryCatalog.parse(Jsoup.parse(html)));
+    }
+
+    @Test
+    void filter() {
+        List<String> repositories = List.of("maven", "maven-blog", "maven-resolver", "maven-site");
+
+        assertEquals(
+                List.of("maven", "maven-resolver", "maven-site"), RepositoryCatalog.filter(repositories, null, null));
+        assertEquals(
+                List.of("maven", "maven-site"), RepositoryCatalog.filter(repositories, null, Set.of("maven-resolver")));
+        assertEquals(
+                List.of("maven-resolver"),
+                RepositoryCatalog.filter(repositories, Set.of("maven-resolver", "maven-blog"), List.of()));
+    }
+
+    @Test
+    void reuseWithinTimeToLive() throws Exception {
+        Path file = directory.resolve("repositories.json");
+        Files.writeString(
+                file,
+                "{\"discoveredAt\":" + System.currentTimeMillis() + ",\"repositories\":[\"maven\",\"maven-site\"]}");
+
+        // no transport: the catalog is not discovered again
+        RepositoryCatalog catalog = new RepositoryCatalog(null);
+
+        assertEquals(List.of("maven", "maven-site"), catalog.getRepositories(file, Duration.ofHours(1)));
+    }
+
+    @Test
+    void catalogOfEachFile() throws Exception {
+        long now = System.currentTimeMillis();
+        Path file = directory.resolve("repositories.json");
+        Files.writeString(file, "{\"discoveredAt\":" + now + ",\"repositories\":[\"maven\"]}");
+        Path other = directory.resolve("other/repositories.json");
+        Files.createDirectories(other.getParent());
+        Files.writeString(other, "{\"discoveredAt\":" + now + ",\"repositories\":[\"maven-site\"]}");
+
+        RepositoryCatalog catalog = new RepositoryCatalog(null);
+
+        assertEquals(List.of("maven"), catalog.getRepositories(file, Duration.ofHours(1)));
+        assertEquals(List.of("maven-site"), catalog.getRepositories(other, Duration.ofHours(1)));
+        assertEquals(List.of("maven"), catalog.getRepositories(file, Duration.ofHours(1)));
+    }
+}
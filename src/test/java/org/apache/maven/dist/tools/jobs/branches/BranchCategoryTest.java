@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.jobs.branches;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BranchCategoryTest {
+    @Test
+    void categorize() {
+        assertEquals(BranchCategory.MASTER, BranchCategory.of("master", "SUREFIRE-"));
+        assertEquals(BranchCategory.JIRA, BranchCategory.of("SUREFIRE-1002", "SUREFIRE-"));
+        assertEquals(BranchCategory.JIRA, BranchCategory.of("surefire-1002-fix", "SUREFIRE-"));
+        assertEquals(BranchCategory.REST, BranchCategory.of("MNG-1234", "SUREFIRE-"));
+        assertEquals(BranchCategory.REST, BranchCategory.of("SUREFIRE-1002", null));
+        assertEquals(BranchCategory.DEPENDABOT, BranchCategory.of("dependabot/maven/junit-5.10.0", "SUREFIRE-"));
+        assertEquals(BranchCategory.REST, BranchCategory.of("maven-4", "SUREFIRE-"));
+    }
+}
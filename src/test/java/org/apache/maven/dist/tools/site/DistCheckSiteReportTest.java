@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.site;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.apache.maven.dist.tools.ConfigurationLineInfo;
+import org.apache.maven.dist.tools.SiteUrlResolver;
+import org.apache.maven.dist.tools.http.CircuitBreaker;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.apache.maven.doxia.sink.Sink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check of an artifact whose site url cannot be resolved from its POM.
+ */
+class DistCheckSiteReportTest {
+
+    private static final String HOST = "localhost";
+
+    private static final String REPO = "http://" + HOST + ":1/repo/";
+
+    @TempDir
+    File failures;
+
+    private final HttpTransport http = new HttpTransport();
+
+    private ConfigurationLineInfo line;
+
+    /**
+     * Report configured without Maven injection.
+     */
+    private class Report extends DistCheckSiteReport {
+        Report(SiteUrlResolver resolver) {
+            transport = http;
+            failuresDirectory = failures;
+            repoBaseUrl = REPO;
+            siteUrlResolver = resolver;
+        }
+    }
+
+    @BeforeEach
+    void configurationLine() {
+        ConfigurationLineInfo group = new ConfigurationLineInfo(new String[] {"/plugins", "org.apache.maven.plugins"});
+        line = new ConfigurationLineInfo(group, new String[] {"maven-foo-plugin"});
+        Versioning versioning = new Versioning();
+        versioning.setLastUpdated("20240102030405");
+        Metadata metadata = new Metadata();
+        metadata.setVersioning(versioning);
+        line.setMetadata(metadata);
+    }
+
+    @Test
+    void missingPom() {
+        Report report = new Report(new SiteUrlResolver(http, null, REPO) {
+            @Override
+            public String resolve(String groupId, String artifactId, String version) throws IOException {
+                throw new IOException("cannot read POM of " + artifactId + ": HTTP status 404");
+            }
+        });
+        CheckSiteResult result = report.checkArtifact(line, "1.0");
+
+        assertNull(result.getUrl());
+        assertTrue(render(report, result).contains("|site url unknown|"));
+    }
+
+    @Test
+    void repositoryUnavailable() throws Exception {
+        CircuitBreaker breaker = http.getCircuitBreaker();
+        for (int i = 0; i < 5; i++) {
+            breaker.onFailure(HOST, new IOException("connection refused"));
+        }
+        Report report = new Report(new SiteUrlResolver(http, null, REPO));
+        CheckSiteResult result = report.checkArtifact(line, "1.0");
+
+        assertEquals(HOST, result.getUnavailableHost());
+        assertNull(result.getUrl());
+        assertTrue(render(report, result).contains("|[host unavailable] |"));
+    }
+
+    private static String render(DistCheckSiteReport report, CheckSiteResult result) {
+        StringBuilder text = new StringBuilder();
+        Sink sink = (Sink) Proxy.newProxyInstance(
+                Sink.class.getClassLoader(), new Class<?>[] {Sink.class}, (proxy, method, args) -> {
+                    if (Set.of("text", "rawText").contains(method.getName())) {
+                        text.append(args[0]).append('|');
+                    }
+                    return null;
+                });
+        report.reportLine(sink, result);
+        return text.toString();
+    }
+}
@@ -20,11 +20,20 @@ package org.apache.maven.dist.tools.site;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
-import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
+import org.apache.maven.dist.tools.site.checkers.FluidoHTMLChecker;
+import org.apache.maven.dist.tools.site.checkers.StylusLeftHTMLChecker;
+import org.apache.maven.dist.tools.site.checkers.StylusRightHTMLChecker;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -32,11 +41,29 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 class SiteReportTest {
 
-    private String readDocument(String resource) throws IOException {
-        try (InputStream in = getClass().getResourceAsStream(resource)) {
-            Document doc = Jsoup.parse(in, "UTF-8", "https://maven.apache.org/archetype/");
-            return CheckSiteResult.extractComment(doc);
+    private final List<HTMLChecker> checkers = HTMLCheckerFactory.getCheckers();
+
+    private final List<String> decisions = new ArrayList<>();
+
+    private SitePage scan(String resource, String version) throws IOException {
+        try (InputStream in = getClass().getResourceAsStream(resource);
+                Reader html = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return SitePage.scan(
+                    html,
+                    "https://maven.apache.org/archetype/",
+                    checkers,
+                    version,
+                    (checker, ok) -> decisions.add(checker.getName()));
+        }
+    }
+
+    private static boolean check(SitePage page, Class<? extends HTMLChecker> checker) {
+        for (Map.Entry<HTMLChecker, Boolean> e : page.getChecks().entrySet()) {
+            if (checker.isInstance(e.getKey())) {
+                return e.getValue();
+            }
         }
+        throw new AssertionError(checker + " not evaluated");
     }
 
     /**
@@ -46,8 +73,12 @@ class SiteReportTest {
      */
     @Test
     void fluidoSkin() throws Exception {
-        String comment = readDocument("fluido.html");
-        assertTrue(comment.contains("Fluido"));
+        SitePage page = scan("fluido.html", "3.2.1");
+        assertTrue(page.getComment().contains("Fluido"));
+        assertTrue(check(page, FluidoHTMLChecker.class));
+        assertEquals(checkers.size(), page.getChecks().size());
+        // Stylus checkers are decided by the comment, before the Fluido version is found
+        assertEquals("Fluido", decisions.get(decisions.size() - 1));
     }
 
     /**
@@ -57,7 +88,22 @@ class SiteReportTest {
      */
     @Test
     void stylusRightSkin() throws Exception {
-        String comment = readDocument("stylus-right.html");
-        assertTrue(comment.contains("Stylus"));
+        SitePage page = scan("stylus-right.html", "1.0");
+        assertTrue(page.getComment().contains("Stylus"));
+        assertTrue(check(page, StylusRightHTMLChecker.class));
+        assertFalse(check(page, StylusLeftHTMLChecker.class));
+        assertFalse(check(page, FluidoHTMLChecker.class));
+    }
+
+    /**
+     * Version not displayed
+     *
+     * @throws IOException if the resource cannot be read
+     */
+    @Test
+    void versionNotFound() throws Exception {
+        SitePage page = scan("fluido.html", "3.3.0");
+        assertFalse(check(page, FluidoHTMLChecker.class));
+        assertEquals(checkers.size(), decisions.size());
     }
 }
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.dist.tools.source;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.artifact.repository.metadata.Metadata;
+import org.apache.maven.artifact.repository.metadata.Versioning;
+import org.apache.maven.dist.tools.ConfigurationLineInfo;
+import org.apache.maven.dist.tools.http.CircuitBreaker;
+import org.apache.maven.dist.tools.http.HttpTransport;
+import org.apache.maven.doxia.sink.Sink;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Check of an artifact while the circuit breaker of its host is open.
+ */
+class DistCheckSourceReleaseReportTest {
+
+    private static final String HOST = "localhost";
+
+    @TempDir
+    File failures;
+
+    private final HttpTransport http = new HttpTransport();
+
+    private ConfigurationLineInfo line;
+
+    /**
+     * Report configured without Maven injection.
+     */
+    private class Report extends DistCheckSourceReleaseReport {
+        Report(boolean probe) {
+            transport = http;
+            failuresDirectory = failures;
+            repoBaseUrl = "http://" + HOST + ":1/repo/";
+            distributionAreaUrl = "http://" + HOST + ":1/dist/";
+            probeCentral = probe;
+        }
+    }
+
+    @BeforeEach
+    void openCircuit() throws Exception {
+        CircuitBreaker breaker = http.getCircuitBreaker();
+        for (int i = 0; i < 5; i++) {
+            breaker.onFailure(HOST, new IOException("connection refused"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState(HOST));
+
+        ConfigurationLineInfo group = new ConfigurationLineInfo(new String[] {"/plugins", "org.apache.maven.plugins"});
+        line = new ConfigurationLineInfo(group, new String[] {"maven-foo-plugin"});
+        Versioning versioning = new Versioning();
+        versioning.setLastUpdated("20240102030405");
+        Metadata metadata = new Metadata();
+        metadata.setVersioning(versioning);
+        line.setMetadata(metadata);
+    }
+
+    @Test
+    void listingOfUnavailableHost() throws Exception {
+        assertHostUnavailable(new Report(false));
+    }
+
+    @Test
+    void probesOfUnavailableHost() throws Exception {
+        assertHostUnavailable(new Report(true));
+    }
+
+    private void assertHostUnavailable(Report report) throws Exception {
+        CheckSourceReleaseResult result = report.checkArtifact(line, "1.0");
+
+        assertEquals(HOST, result.getUnavailableHost());
+        assertEquals(List.of(), result.central);
+        assertNull(result.dist);
+
+        StringBuilder text = new StringBuilder();
+        Sink sink = (Sink) Proxy.newProxyInstance(
+                Sink.class.getClassLoader(), new Class<?>[] {Sink.class}, (proxy, method, args) -> {
+                    if (Set.of("text", "rawText").contains(method.getName())) {
+                        text.append(args[0]).append('|');
+                    }
+                    return null;
+                });
+        report.reportLine(sink, result);
+        assertTrue(text.toString().contains("|host unavailable: " + HOST + '|'), text.toString());
+    }
+}